@@ -0,0 +1,55 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to compute n! exactly: a naive {@link BigInteger} multiply loop against
+ * {@link BigFactorial} in serial and parallel mode. The naive loop is quadratic in the size of
+ * the result, so it is left out above 10^5; select the sizes with {@code -p n=...}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class BigFactorialBenchmark {
+    private static final int MAX_NAIVE = 100_000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int n;
+
+    @Benchmark
+    public BigInteger naiveLoop() {
+        if (n > MAX_NAIVE) {
+            return BigInteger.ZERO;
+        }
+        BigInteger result = BigInteger.ONE;
+        for (int i = 2; i <= n; i++) {
+            result = result.multiply(BigInteger.valueOf(i));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public BigInteger primeSwing() {
+        return BigFactorial.factorial(n);
+    }
+
+    @Benchmark
+    public BigInteger primeSwingParallel() {
+        return BigFactorial.factorial(n, true);
+    }
+}
@@ -0,0 +1,110 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Gcds per second on 64-bit and multi-precision operands: {@link BinaryGCD} against the
+ * division loop (for {@code long}, an inlined copy of {@link GCD#gcd(int, int)}) and against
+ * {@link BigInteger#gcd}. The operands share a random factor so the result is rarely 1.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BigGCDBenchmark {
+    private static final int BATCH = 256;
+
+    // 64-bit operands; kept apart from BigOperands so the long benchmarks do not repeat per bits
+    @State(Scope.Thread)
+    public static class LongOperands {
+        private long[] a;
+        private long[] b;
+
+        @Setup
+        public void prepareInputs() {
+            SplittableRandom random = new SplittableRandom(43);
+            a = new long[BATCH];
+            b = new long[BATCH];
+            for (int i = 0; i < BATCH; i++) {
+                long factor = random.nextLong(1, 1 << 20);
+                a[i] = random.nextLong(Long.MAX_VALUE / factor) * factor;
+                b[i] = random.nextLong(Long.MAX_VALUE / factor) * factor;
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BigOperands {
+        @Param({"256", "2048", "16384"})
+        private int bits;
+
+        private BigInteger[] a;
+        private BigInteger[] b;
+
+        @Setup
+        public void prepareInputs() {
+            Random random = new Random(43);
+            a = new BigInteger[BATCH];
+            b = new BigInteger[BATCH];
+            for (int i = 0; i < BATCH; i++) {
+                BigInteger common = new BigInteger(bits / 8, random);
+                a[i] = new BigInteger(bits, random).multiply(common);
+                b[i] = new BigInteger(bits, random).multiply(common);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void longDivisionLoop(LongOperands operands, Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            long a = operands.a[i];
+            long b = operands.b[i];
+            while (b != 0) {
+                long remainder = a % b;
+                a = b;
+                b = remainder;
+            }
+            blackhole.consume(a);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void longBinary(LongOperands operands, Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(BinaryGCD.gcd(operands.a[i], operands.b[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void bigLehmer(BigOperands operands, Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(BinaryGCD.gcd(operands.a[i], operands.b[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void bigJdk(BigOperands operands, Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(operands.a[i].gcd(operands.b[i]));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Union throughput of {@link ConcurrentDsu} as the number of ingestion threads grows, next to
+ * the sequential {@link Dsu} behind one global lock that it replaces.
+ *
+ * <p>Each invocation splits the same random pair list evenly across {@code threads} workers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ConcurrentDsuBenchmark {
+    private static final int SIZE = 1 << 22;
+    private static final int PAIRS = 1 << 22;
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    private int threads;
+
+    private int[] left;
+    private int[] right;
+    private ExecutorService pool;
+    private ConcurrentDsu concurrentDsu;
+    private Dsu lockedDsu;
+
+    @Setup(Level.Trial)
+    public void preparePairs() {
+        SplittableRandom random = new SplittableRandom(5);
+        left = new int[PAIRS];
+        right = new int[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            left[i] = random.nextInt(SIZE);
+            right[i] = random.nextInt(SIZE);
+        }
+        pool = Executors.newFixedThreadPool(threads);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetSets() {
+        concurrentDsu = new ConcurrentDsu(SIZE);
+        lockedDsu = new Dsu(SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public int concurrentUnion() throws Exception {
+        runSplit(false);
+        return concurrentDsu.getSetCount();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public int globalLockUnion() throws Exception {
+        runSplit(true);
+        return lockedDsu.getSetCount();
+    }
+
+    private void runSplit(boolean locked) throws Exception {
+        Future<?>[] parts = new Future<?>[threads];
+        int chunk = PAIRS / threads;
+        for (int t = 0; t < threads; t++) {
+            int from = t * chunk;
+            int to = t == threads - 1 ? PAIRS : from + chunk;
+            parts[t] = pool.submit(() -> {
+                for (int p = from; p < to; p++) {
+                    if (locked) {
+                        synchronized (lockedDsu) {
+                            lockedDsu.union(left[p], right[p]);
+                        }
+                    } else {
+                        concurrentDsu.union(left[p], right[p]);
+                    }
+                }
+            });
+        }
+        for (Future<?> part : parts) {
+            part.get();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+
+/**
+ * Lookups per second of {@link Dsu#find(int)} for each {@link Dsu.PathStrategy}.
+ *
+ * <p>The structure is rebuilt before every iteration so that each iteration starts from
+ * uncompressed paths. {@code RANDOM} unites random pairs; {@code WORST_CASE} merges
+ * equal-sized blocks pairwise, which gives union by size its maximum depth of log2(n).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DsuBenchmark {
+    private static final int LOOKUPS = 1 << 22;
+
+    @Param({"10000000", "100000000"})
+    private int size;
+
+    @Param({"RANDOM", "WORST_CASE"})
+    private String unions;
+
+    @Param({"COMPRESSION", "HALVING", "SPLITTING"})
+    private Dsu.PathStrategy strategy;
+
+    private int[] queries;
+    private Dsu dsu;
+
+    @Setup(Level.Trial)
+    public void prepareQueries() {
+        SplittableRandom random = new SplittableRandom(7);
+        queries = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            queries[i] = random.nextInt(size);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void buildSets() {
+        dsu = new Dsu(size, strategy);
+        if ("RANDOM".equals(unions)) {
+            SplittableRandom random = new SplittableRandom(11);
+            for (int i = 0; i < size; i++) {
+                dsu.union(random.nextInt(size), random.nextInt(size));
+            }
+        } else {
+            for (int width = 1; width < size; width <<= 1) {
+                for (int i = 0; i + width < size; i += 2 * width) {
+                    dsu.union(i, i + width);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long find() {
+        long sum = 0;
+        for (int query : queries) {
+            sum += dsu.find(query);
+        }
+        return sum;
+    }
+}
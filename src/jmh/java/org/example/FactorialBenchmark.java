@@ -0,0 +1,92 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+
+/**
+ * Factorials per second of {@link Factorial} against {@link FactorialRecursion}, both served
+ * from the 21-entry table, and against the multiply loop and recursion they used to run on
+ * every call ({@code legacyLoop}, {@code legacyRecursion}).
+ *
+ * <p>{@code SMALL} draws n from [0, 5]; {@code FULL} from [0, 20], every n whose factorial fits
+ * in a {@code long}; {@code MAX} always asks for 20!, the longest loop and deepest recursion.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FactorialBenchmark {
+    private static final int BATCH = 4096;
+
+    @Param({"SMALL", "FULL", "MAX"})
+    private String distribution;
+
+    private int[] inputs;
+
+    @Setup
+    public void prepareInputs() {
+        SplittableRandom random = new SplittableRandom(41);
+        inputs = new int[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            switch (distribution) {
+                case "SMALL" -> inputs[i] = random.nextInt(6);
+                case "FULL" -> inputs[i] = random.nextInt(21);
+                default -> inputs[i] = 20;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void loop(Blackhole blackhole) {
+        for (int input : inputs) {
+            blackhole.consume(Factorial.factorial(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void recursion(Blackhole blackhole) {
+        for (int input : inputs) {
+            blackhole.consume(FactorialRecursion.factorial(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void legacyLoop(Blackhole blackhole) {
+        for (int input : inputs) {
+            long factorial = 1;
+            for (int i = 1; i <= input; ++i) {
+                factorial *= i;
+            }
+            blackhole.consume(factorial);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void legacyRecursion(Blackhole blackhole) {
+        for (int input : inputs) {
+            blackhole.consume(legacyFactorial(input));
+        }
+    }
+
+    // The recursive FactorialRecursion.factorial before it used the table
+    private static long legacyFactorial(int n) {
+        return n == 0 || n == 1 ? 1 : n * legacyFactorial(n - 1);
+    }
+}
@@ -0,0 +1,89 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+
+/**
+ * Exponentiations per second of one fixed base to random 63-bit exponents:
+ * {@link FastExponentiation#fastExponentiation} and a reused {@link ModPowContext} against
+ * {@link FixedBasePowMod} at several window widths.
+ *
+ * <p>Only {@code fixedBase} uses the {@link Table} state, so only it is repeated per
+ * {@code windowBits}; the two baselines run once per modulus.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FixedBasePowModBenchmark {
+    private static final int BATCH = 1024;
+    private static final long BASE = 5;
+
+    @State(Scope.Thread)
+    public static class Exponents {
+        @Param({"1000000007", "9223372036854775783"})
+        private long mod;
+
+        private long[] exps;
+        private ModPowContext context;
+
+        @Setup
+        public void prepare() {
+            SplittableRandom random = new SplittableRandom(23);
+            exps = new long[BATCH];
+            for (int i = 0; i < BATCH; i++) {
+                exps[i] = random.nextLong() >>> 1;
+            }
+            context = ModPowContext.of(mod);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Table {
+        @Param({"4", "8", "12", "16"})
+        private int windowBits;
+
+        private FixedBasePowMod fixed;
+
+        @Setup
+        public void prepare(Exponents exponents) {
+            fixed = new FixedBasePowMod(BASE, exponents.mod, windowBits);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void fastExponentiation(Exponents exponents, Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(FastExponentiation.fastExponentiation(BASE, exponents.exps[i], exponents.mod));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void context(Exponents exponents, Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(exponents.context.pow(BASE, exponents.exps[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void fixedBase(Exponents exponents, Table table, Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(table.fixed.pow(exponents.exps[i]));
+        }
+    }
+}
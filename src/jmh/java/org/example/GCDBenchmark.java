@@ -0,0 +1,125 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+
+/**
+ * Pairwise gcds per second of {@link GCD#gcd(int, int)} against {@link GCDRecursion#gcd} and
+ * {@link BinaryGCD#gcd(int, int)}. {@code legacyRecursion} keeps the original recursive
+ * {@code GCDRecursion.gcd}, which evaluated {@code a % b} twice per level, as a baseline.
+ *
+ * <p>{@code RANDOM} draws both operands from [0, 2^31); {@code SMALL} from [0, 1000);
+ * {@code FIBONACCI} uses consecutive Fibonacci numbers, Euclid's worst case with the most
+ * remainder steps for their size; {@code SHARED_FACTOR} multiplies random operands by a common
+ * factor so the result is rarely 1.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GCDBenchmark {
+    private static final int BATCH = 4096;
+
+    @Param({"RANDOM", "SMALL", "FIBONACCI", "SHARED_FACTOR"})
+    private String distribution;
+
+    private int[] a;
+    private int[] b;
+
+    @Setup
+    public void prepareInputs() {
+        SplittableRandom random = new SplittableRandom(37);
+        int[] fibonacci = new int[46];
+        fibonacci[0] = 0;
+        fibonacci[1] = 1;
+        for (int i = 2; i < fibonacci.length; i++) {
+            fibonacci[i] = fibonacci[i - 1] + fibonacci[i - 2];
+        }
+        a = new int[BATCH];
+        b = new int[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            switch (distribution) {
+                case "RANDOM" -> {
+                    a[i] = random.nextInt(Integer.MAX_VALUE);
+                    b[i] = random.nextInt(Integer.MAX_VALUE);
+                }
+                case "SMALL" -> {
+                    a[i] = random.nextInt(1000);
+                    b[i] = random.nextInt(1000);
+                }
+                case "FIBONACCI" -> {
+                    int k = random.nextInt(20, fibonacci.length);
+                    a[i] = fibonacci[k];
+                    b[i] = fibonacci[k - 1];
+                }
+                default -> {
+                    int factor = random.nextInt(2, 1 << 10);
+                    a[i] = factor * random.nextInt(1 << 20);
+                    b[i] = factor * random.nextInt(1 << 20);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void loop(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(GCD.gcd(a[i], b[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void recursion(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(GCDRecursion.gcd(a[i], b[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void legacyRecursion(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(legacyGcd(a[i], b[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void binary(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(BinaryGCD.gcd(a[i], b[i]));
+        }
+    }
+
+    // The recursive GCDRecursion.gcd before it became a loop
+    private static int legacyGcd(int a, int b) {
+        if (a < 0 || b < 0) {
+            throw new ArithmeticException();
+        }
+
+        if (a == 0 || b == 0) {
+            return Math.abs(a - b);
+        }
+
+        if (a % b == 0) {
+            return b;
+        } else {
+            return legacyGcd(b, a % b);
+        }
+    }
+}
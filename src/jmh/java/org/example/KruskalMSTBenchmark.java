@@ -0,0 +1,81 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MST time on a dense random graph for several weight ranges. Small ranges take the counting
+ * sort path of {@link EdgeStore#sortedOrder()}, wide ranges the radix path.
+ *
+ * <p>{@code firstEdges} takes only the first {@code k} MST edges through the lazy
+ * {@link KruskalMST#mstEdgeIterator()}, for comparison with the full {@code findMSTWeight}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class KruskalMSTBenchmark {
+    @Param({"1000"})
+    private int vertices;
+
+    @Param({"4000000"})
+    private int edges;
+
+    @Param({"100", "1000000", "2147483647"})
+    private int weightRange;
+
+    @Param({"10"})
+    private int k;
+
+    private EdgeStore store;
+
+    @Setup
+    public void buildGraph() {
+        SplittableRandom random = new SplittableRandom(3);
+        store = new EdgeStore();
+        store.ensureCapacity(edges);
+        for (int e = 0; e < edges; e++) {
+            store.add(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(weightRange));
+        }
+    }
+
+    @Benchmark
+    public int[] sortedOrder() {
+        return store.sortedOrder();
+    }
+
+    @Benchmark
+    public int findMSTWeight() {
+        KruskalMST graph = new KruskalMST(vertices);
+        for (int v = 1; v < vertices; v++) {
+            graph.addEdge(v - 1, v, Integer.MAX_VALUE / vertices);
+        }
+        for (int e = 0; e < edges; e++) {
+            graph.addEdge(store.src(e), store.dest(e), store.weight(e));
+        }
+        return graph.findMSTWeight();
+    }
+
+    @Benchmark
+    public long firstEdges() {
+        KruskalMST graph = new KruskalMST(vertices);
+        for (int e = 0; e < edges; e++) {
+            graph.addEdge(store.src(e), store.dest(e), store.weight(e));
+        }
+        return graph.mstEdgeStream().limit(k).mapToLong(edge -> edge.weight).sum();
+    }
+}
@@ -0,0 +1,97 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+
+/**
+ * Modular exponentiations per second: {@link FastExponentiation#fastExponentiation} against a
+ * reused {@link ModPowContext} and {@link BigInteger#modPow}, over a batch of random bases and
+ * 63-bit exponents.
+ *
+ * <p>On the 30-bit modulus {@code fastExponentiation} runs its {@code %} loop. On the 61- and
+ * 63-bit moduli it reuses its cached context, so the gap to {@code montgomery} is the cost of
+ * the cache check and the sign handling. {@code batch} and {@code batchParallel} run the same work through
+ * {@link FastExponentiation#powMod(long[], long[], long, long[], boolean)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ModPowBenchmark {
+    private static final int BATCH = 1 << 14;
+
+    @Param({"1000000007", "2305843009213693951", "9223372036854775783"})
+    private long mod;
+
+    private long[] bases;
+    private long[] exps;
+    private long[] out;
+    private ModPowContext context;
+    private BigInteger bigMod;
+
+    @Setup
+    public void prepare() {
+        SplittableRandom random = new SplittableRandom(17);
+        bases = new long[BATCH];
+        exps = new long[BATCH];
+        out = new long[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            bases[i] = random.nextLong(mod);
+            exps[i] = random.nextLong() >>> 1;
+        }
+        context = ModPowContext.of(mod);
+        bigMod = BigInteger.valueOf(mod);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void fastExponentiation(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(FastExponentiation.fastExponentiation(bases[i], exps[i], mod));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void montgomery(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(context.pow(bases[i], exps[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void bigInteger(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(BigInteger.valueOf(bases[i]).modPow(BigInteger.valueOf(exps[i]), bigMod));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long[] batch() {
+        FastExponentiation.powMod(bases, exps, mod, out);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long[] batchParallel() {
+        FastExponentiation.powMod(bases, exps, mod, out, true);
+        return out;
+    }
+}
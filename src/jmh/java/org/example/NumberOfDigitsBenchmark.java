@@ -0,0 +1,100 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+
+/**
+ * Digit counts per second for every {@link NumberOfDigits} variant.
+ *
+ * <p>{@code SMALL} draws from [0, 100). {@code UNIFORM} draws from the whole int range, half of it
+ * negative: about 53% of inputs have ten digits, 42% have nine and 5% fewer. Loop-based variants
+ * therefore run close to their worst case of nine or ten steps, while the nine-or-ten split is
+ * nearly a coin flip for any branch on the length; the lookup pays neither cost.
+ * {@code PER_LENGTH} picks the digit count uniformly first, which defeats branch prediction on
+ * the length entirely; {@code NEGATIVE} is {@code PER_LENGTH} negated.
+ * Run with {@code -prof gc} to see the allocation rate of the string-based variant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NumberOfDigitsBenchmark {
+    private static final int BATCH = 4096;
+
+    @Param({"SMALL", "UNIFORM", "PER_LENGTH", "NEGATIVE"})
+    private String distribution;
+
+    private int[] inputs;
+
+    @Setup
+    public void prepareInputs() {
+        SplittableRandom random = new SplittableRandom(31);
+        inputs = new int[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            switch (distribution) {
+                case "SMALL" -> inputs[i] = random.nextInt(100);
+                case "UNIFORM" -> inputs[i] = random.nextInt();
+                default -> {
+                    int digits = random.nextInt(1, 11);
+                    long low = digits == 1 ? 0 : (long) Math.pow(10, digits - 1);
+                    long high = Math.min((long) Math.pow(10, digits), Integer.MAX_VALUE);
+                    int value = (int) random.nextLong(low, high);
+                    inputs[i] = "NEGATIVE".equals(distribution) ? -value : value;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void divisionLoop(Blackhole blackhole) {
+        for (int input : inputs) {
+            blackhole.consume(NumberOfDigits.numberOfDigits(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void log10(Blackhole blackhole) {
+        for (int input : inputs) {
+            blackhole.consume(NumberOfDigits.numberOfDigitsFast(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void string(Blackhole blackhole) {
+        for (int input : inputs) {
+            blackhole.consume(NumberOfDigits.numberOfDigitsFaster(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void recursion(Blackhole blackhole) {
+        for (int input : inputs) {
+            blackhole.consume(NumberOfDigits.numberOfDigitsRecursion(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void lookup(Blackhole blackhole) {
+        for (int input : inputs) {
+            blackhole.consume(NumberOfDigits.numberOfDigitsLookup(input));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds a structure with {@code size} random unions followed by {@code size} lookups, on the
+ * heap ({@link Dsu}) and in a memory-mapped file ({@link OffHeapDsu}).
+ *
+ * <p>Besides the time per build, counters report the resident set of the forked JVM (from
+ * {@code /proc/self/status}) right after the build: {@code rssMb} is the total, {@code rssAnonMb}
+ * the anonymous part (heap and other private memory) and {@code rssFileMb} the file-backed part,
+ * which includes the touched pages of the {@link OffHeapDsu} mapping. The heap is sized for the
+ * largest on-heap run so both variants are compared inside the same JVM footprint.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class OffHeapDsuBenchmark {
+    @Param({"10000000", "100000000"})
+    private int size;
+
+    private Path file;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Memory {
+        public long rssMb;
+        public long rssAnonMb;
+        public long rssFileMb;
+
+        void sample() {
+            rssMb = residentMegabytes("VmRSS:");
+            rssAnonMb = residentMegabytes("RssAnon:");
+            rssFileMb = residentMegabytes("RssFile:");
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void createFile() throws IOException {
+        file = Files.createTempFile("dsu-benchmark", ".dsu");
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long onHeap(Memory memory) {
+        Dsu dsu = new Dsu(size, Dsu.PathStrategy.HALVING);
+        SplittableRandom random = new SplittableRandom(13);
+        for (int i = 0; i < size; i++) {
+            dsu.union(random.nextInt(size), random.nextInt(size));
+        }
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += dsu.find(random.nextInt(size));
+        }
+        memory.sample();
+        return sum + dsu.getSetCount();
+    }
+
+    @Benchmark
+    public long offHeap(Memory memory) throws IOException {
+        try (OffHeapDsu dsu = OffHeapDsu.create(file, size)) {
+            SplittableRandom random = new SplittableRandom(13);
+            for (int i = 0; i < size; i++) {
+                dsu.union(random.nextInt(size), random.nextInt(size));
+            }
+            long sum = 0;
+            for (int i = 0; i < size; i++) {
+                sum += dsu.find(random.nextInt(size));
+            }
+            memory.sample();
+            return sum + dsu.getSetCount();
+        }
+    }
+
+    private static long residentMegabytes(String field) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith(field)) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) / 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Not on Linux: report nothing rather than failing the run
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,97 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Speedup of {@link ParallelMST} over thread count, with single-threaded {@link KruskalMST} as
+ * the baseline, on a random graph (2^20 vertices, 8 edges per vertex) and a 1024 x 1024 grid.
+ *
+ * <p>Graphs are rebuilt for every invocation because {@code KruskalMST} caches its result; both
+ * benchmarks pay the same edge-loading cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ParallelMSTBenchmark {
+    private static final int VERTICES = 1 << 20;
+
+    @Param({"RANDOM", "GRID"})
+    private String graph;
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    private int threads;
+
+    private int[] src;
+    private int[] dest;
+    private int[] weight;
+
+    @Setup
+    public void buildEdges() {
+        SplittableRandom random = new SplittableRandom(19);
+        if ("RANDOM".equals(graph)) {
+            int count = 8 * VERTICES;
+            src = new int[count];
+            dest = new int[count];
+            weight = new int[count];
+            for (int e = 0; e < count; e++) {
+                // The first VERTICES - 1 edges form a random spanning tree so the graph is connected
+                src[e] = e < VERTICES - 1 ? random.nextInt(e + 1) : random.nextInt(VERTICES);
+                dest[e] = e < VERTICES - 1 ? e + 1 : random.nextInt(VERTICES);
+                weight[e] = random.nextInt(1 << 20);
+            }
+        } else {
+            int side = 1 << 10;
+            int count = 2 * side * (side - 1);
+            src = new int[count];
+            dest = new int[count];
+            weight = new int[count];
+            int e = 0;
+            for (int v = 0; v < VERTICES; v++) {
+                if (v % side + 1 < side) {
+                    src[e] = v;
+                    dest[e] = v + 1;
+                    weight[e++] = random.nextInt(1 << 20);
+                }
+                if (v + side < VERTICES) {
+                    src[e] = v;
+                    dest[e] = v + side;
+                    weight[e++] = random.nextInt(1 << 20);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public long parallelBoruvka() {
+        ParallelMST mst = new ParallelMST(VERTICES, threads);
+        for (int e = 0; e < src.length; e++) {
+            mst.addEdge(src[e], dest[e], weight[e]);
+        }
+        return mst.findMSTWeightExact();
+    }
+
+    @Benchmark
+    public long sequentialKruskal() {
+        KruskalMST mst = new KruskalMST(VERTICES);
+        for (int e = 0; e < src.length; e++) {
+            mst.addEdge(src[e], dest[e], weight[e]);
+        }
+        return mst.findMSTWeightExact();
+    }
+}
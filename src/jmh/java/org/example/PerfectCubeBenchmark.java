@@ -0,0 +1,92 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+
+/**
+ * Perfect-cube checks per second: the exact bit-by-bit {@link PerfectCube#isPerfectCube(int)}
+ * against {@link PerfectCube#isPerfectCubeMathCbrt} and the {@code Math.pow} check it replaced
+ * ({@code legacyPow}), plus the {@code long} overload.
+ *
+ * <p>{@code RANDOM} draws from the whole int range, where almost nothing is a cube;
+ * {@code NEAR_CUBES} draws cubes and their neighbours.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PerfectCubeBenchmark {
+    private static final int BATCH = 4096;
+
+    @Param({"RANDOM", "NEAR_CUBES"})
+    private String distribution;
+
+    private int[] inputs;
+    private long[] longInputs;
+
+    @Setup
+    public void prepareInputs() {
+        SplittableRandom random = new SplittableRandom(47);
+        inputs = new int[BATCH];
+        longInputs = new long[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            if ("RANDOM".equals(distribution)) {
+                inputs[i] = random.nextInt();
+                longInputs[i] = random.nextLong();
+            } else {
+                int root = random.nextInt(1291);
+                long longRoot = random.nextLong(2_097_152);
+                int offset = random.nextInt(-1, 2);
+                inputs[i] = root * root * root + offset;
+                longInputs[i] = longRoot * longRoot * longRoot + offset;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void exact(Blackhole blackhole) {
+        for (int input : inputs) {
+            blackhole.consume(PerfectCube.isPerfectCube(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void exactLong(Blackhole blackhole) {
+        for (long input : longInputs) {
+            blackhole.consume(PerfectCube.isPerfectCube(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void mathCbrt(Blackhole blackhole) {
+        for (int input : inputs) {
+            blackhole.consume(PerfectCube.isPerfectCubeMathCbrt(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void legacyPow(Blackhole blackhole) {
+        for (int input : inputs) {
+            int number = Math.abs(input);
+            int a = (int) Math.pow(number, 1.0 / 3);
+            blackhole.consume(a * a * a == number);
+        }
+    }
+}
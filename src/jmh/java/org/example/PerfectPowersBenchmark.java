@@ -0,0 +1,89 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+/**
+ * Values classified per second when scanning an array of random ints for perfect cubes:
+ * {@link PerfectPowers#classify(int[], int, boolean)} serially and in parallel, against calling
+ * {@link PerfectPowers#isPerfectPower(int, int)}, {@link PerfectCube#isPerfectCube(int)} or
+ * {@link PerfectCube#isPerfectCubeMathCbrt} per element.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PerfectPowersBenchmark {
+    private static final int SIZE = 1 << 22;
+
+    private int[] values;
+
+    @Setup
+    public void prepareValues() {
+        SplittableRandom random = new SplittableRandom(53);
+        values = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextInt();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BitSet classify() {
+        return PerfectPowers.classify(values, 3);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BitSet classifyParallel() {
+        return PerfectPowers.classify(values, 3, true);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BitSet perElementIsPerfectPower() {
+        BitSet cubes = new BitSet(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            if (PerfectPowers.isPerfectPower(values[i], 3)) {
+                cubes.set(i);
+            }
+        }
+        return cubes;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BitSet perElement() {
+        BitSet cubes = new BitSet(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            if (PerfectCube.isPerfectCube(values[i])) {
+                cubes.set(i);
+            }
+        }
+        return cubes;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BitSet perElementMathCbrt() {
+        BitSet cubes = new BitSet(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            if (PerfectCube.isPerfectCubeMathCbrt(values[i])) {
+                cubes.set(i);
+            }
+        }
+        return cubes;
+    }
+}
@@ -0,0 +1,163 @@
+package org.example;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Exact factorials of any size, using Luschny's prime-swing algorithm.
+ *
+ * <p>The swing number {@code n≀ = n! / ((n/2)!)^2} is a product of prime powers that can be read
+ * off directly: prime p appears with exponent {@code sum((n / p^k) & 1)}, and each such prime
+ * power is at most n. So {@code n! = ((n/2)!)^2 * n≀} needs one squaring per halving of n plus
+ * one product of small factors. The factors are packed into {@code long}s and multiplied with a
+ * balanced product tree (binary splitting), so large operands meet the sub-quadratic
+ * Karatsuba and Toom-Cook paths of {@link BigInteger#multiply} instead of the long × small
+ * multiplications of a naive loop.
+ *
+ * <p>The parallel mode builds the product trees with fork-join tasks and does the large
+ * multiplications with {@link BigInteger#parallelMultiply}.
+ */
+public final class BigFactorial {
+    private static final int PARALLEL_MIN_FACTORS = 256; // Smaller product trees run in one task
+
+    private BigFactorial() {
+    }
+
+    /**
+     * Calculate factorial N exactly using the prime-swing algorithm
+     *
+     * @param n the number
+     * @return the factorial of {@code n}
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public static BigInteger factorial(int n) {
+        return factorial(n, false);
+    }
+
+    /**
+     * Calculate factorial N exactly using the prime-swing algorithm, optionally in parallel
+     *
+     * @param n the number
+     * @param parallel whether to multiply on the common fork-join pool
+     * @return the factorial of {@code n}
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public static BigInteger factorial(int n, boolean parallel) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Input number cannot be negative");
+        }
+        if (n <= Factorial.MAX_N) {
+            return BigInteger.valueOf(Factorial.factorial(n));
+        }
+        boolean[] composite = oddCompositeSieve(n);
+        return factorial(n, composite, parallel);
+    }
+
+    private static BigInteger factorial(int n, boolean[] composite, boolean parallel) {
+        if (n <= Factorial.MAX_N) {
+            return BigInteger.valueOf(Factorial.factorial(n));
+        }
+        BigInteger half = factorial(n / 2, composite, parallel);
+        BigInteger swing = swing(n, composite, parallel);
+        return parallel
+                ? half.parallelMultiply(half).parallelMultiply(swing)
+                : half.multiply(half).multiply(swing);
+    }
+
+    // n! / ((n/2)!)^2 as a product of prime powers p^e, each at most n
+    private static BigInteger swing(int n, boolean[] composite, boolean parallel) {
+        long[] factors = new long[64];
+        int count = 0;
+        long packed = primePower(n, 2);
+        for (int i = 1; i <= (n - 1) / 2; i++) {
+            if (composite[i]) {
+                continue;
+            }
+            long power = primePower(n, 2 * i + 1);
+            // Pack factors into one long until the next one would overflow it
+            if (packed > Long.MAX_VALUE / power) {
+                if (count == factors.length) {
+                    factors = Arrays.copyOf(factors, count * 2);
+                }
+                factors[count++] = packed;
+                packed = 1;
+            }
+            packed *= power;
+        }
+        if (count == factors.length) {
+            factors = Arrays.copyOf(factors, count + 1);
+        }
+        factors[count++] = packed;
+        return parallel
+                ? ForkJoinPool.commonPool().invoke(new ProductTask(factors, 0, count))
+                : product(factors, 0, count);
+    }
+
+    // p^e where e = sum of (n / p^k) & 1 over k >= 1: the power of prime p in n / ((n/2)!)^2
+    private static long primePower(int n, int p) {
+        long power = 1;
+        for (int q = n / p; q > 0; q /= p) {
+            if ((q & 1) == 1) {
+                power *= p;
+            }
+        }
+        return power;
+    }
+
+    // Product of factors[from, to) by binary splitting
+    private static BigInteger product(long[] factors, int from, int to) {
+        int length = to - from;
+        if (length == 0) {
+            return BigInteger.ONE;
+        }
+        if (length == 1) {
+            return BigInteger.valueOf(factors[from]);
+        }
+        if (length == 2) {
+            return BigInteger.valueOf(factors[from]).multiply(BigInteger.valueOf(factors[from + 1]));
+        }
+        int mid = (from + to) >>> 1;
+        return product(factors, from, mid).multiply(product(factors, mid, to));
+    }
+
+    // composite[i] tells whether the odd number 2i + 1 is composite, for 2i + 1 <= n
+    private static boolean[] oddCompositeSieve(int n) {
+        boolean[] composite = new boolean[n / 2 + 1];
+        for (long p = 3; p * p <= n; p += 2) {
+            if (!composite[(int) (p >> 1)]) {
+                for (long multiple = p * p; multiple <= n; multiple += 2 * p) {
+                    composite[(int) (multiple >> 1)] = true;
+                }
+            }
+        }
+        return composite;
+    }
+
+    private static final class ProductTask extends RecursiveTask<BigInteger> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] factors;
+        private final int from;
+        private final int to;
+
+        ProductTask(long[] factors, int from, int to) {
+            this.factors = factors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            if (to - from <= PARALLEL_MIN_FACTORS) {
+                return product(factors, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            ProductTask left = new ProductTask(factors, from, mid);
+            left.fork();
+            BigInteger right = new ProductTask(factors, mid, to).compute();
+            return left.join().parallelMultiply(right);
+        }
+    }
+}
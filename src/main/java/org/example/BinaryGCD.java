@@ -0,0 +1,179 @@
+package org.example;
+
+import java.math.BigInteger;
+
+/**
+ * Greatest common divisors without the division loop of {@link GCD}.
+ *
+ * <p>For {@code int} and {@code long} this is the binary (Stein's) algorithm: common factors of
+ * two are counted once with {@link Long#numberOfTrailingZeros}, and the odd parts are reduced
+ * by subtraction and shifts only. For {@link BigInteger} it is Lehmer's algorithm, which runs
+ * Euclid on the leading 62 bits of both operands in single precision and applies the
+ * accumulated 2x2 cofactor matrix to the full operands once per round, replacing many
+ * multi-precision divisions with a few multiplications.
+ *
+ * <p>As in {@link GCD}, negative inputs throw {@link ArithmeticException} and
+ * {@code gcd(0, 0)} is 0.
+ */
+public final class BinaryGCD {
+    private static final int LEHMER_BITS = 62; // Leading bits used by the single-precision steps
+
+    private BinaryGCD() {
+    }
+
+    /**
+     * Bezout coefficients of a gcd: {@code a * x + b * y == gcd}.
+     *
+     * @param gcd the greatest common divisor of a and b
+     * @param x the coefficient of a
+     * @param y the coefficient of b
+     */
+    public record ExtendedGcd(long gcd, long x, long y) {
+    }
+
+    /**
+     * get the greatest common divisor with the binary algorithm
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return gcd
+     * @throws ArithmeticException if either number is negative
+     */
+    public static int gcd(int a, int b) {
+        if (a < 0 || b < 0) {
+            throw new ArithmeticException();
+        }
+        if (a == 0 || b == 0) {
+            return a | b;
+        }
+        int shift = Integer.numberOfTrailingZeros(a | b);
+        a >>= Integer.numberOfTrailingZeros(a);
+        do {
+            b >>= Integer.numberOfTrailingZeros(b);
+            // Keep a <= b; both are odd, so b - a is even and non-negative
+            int min = Math.min(a, b);
+            b = Math.max(a, b) - min;
+            a = min;
+        } while (b != 0);
+        return a << shift;
+    }
+
+    /**
+     * get the greatest common divisor of two longs with the binary algorithm
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return gcd
+     * @throws ArithmeticException if either number is negative
+     */
+    public static long gcd(long a, long b) {
+        if (a < 0 || b < 0) {
+            throw new ArithmeticException();
+        }
+        if (a == 0 || b == 0) {
+            return a | b;
+        }
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+        do {
+            b >>= Long.numberOfTrailingZeros(b);
+            long min = Math.min(a, b);
+            b = Math.max(a, b) - min;
+            a = min;
+        } while (b != 0);
+        return a << shift;
+    }
+
+    /**
+     * get the greatest common divisor of two big integers with Lehmer's algorithm
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return gcd
+     * @throws ArithmeticException if either number is negative
+     */
+    public static BigInteger gcd(BigInteger a, BigInteger b) {
+        if (a.signum() < 0 || b.signum() < 0) {
+            throw new ArithmeticException();
+        }
+        if (a.compareTo(b) < 0) {
+            BigInteger swap = a;
+            a = b;
+            b = swap;
+        }
+        while (b.bitLength() >= Long.SIZE) {
+            // Euclid on the leading bits; A..D track how the quotients combine a and b
+            int shift = a.bitLength() - LEHMER_BITS;
+            long x = a.shiftRight(shift).longValue();
+            long y = b.shiftRight(shift).longValue();
+            long ca = 1;
+            long cb = 0;
+            long cc = 0;
+            long cd = 1;
+            while (y + cc != 0 && y + cd != 0) {
+                long q = (x + ca) / (y + cc);
+                if (q != (x + cb) / (y + cd)) {
+                    break; // The leading bits no longer determine the quotient
+                }
+                long t = ca - q * cc;
+                ca = cc;
+                cc = t;
+                t = cb - q * cd;
+                cb = cd;
+                cd = t;
+                t = x - q * y;
+                x = y;
+                y = t;
+            }
+            if (cb == 0) {
+                // Not even one quotient was certain: take a full-precision step
+                BigInteger remainder = a.mod(b);
+                a = b;
+                b = remainder;
+            } else {
+                BigInteger nextA = a.multiply(BigInteger.valueOf(ca)).add(b.multiply(BigInteger.valueOf(cb)));
+                BigInteger nextB = a.multiply(BigInteger.valueOf(cc)).add(b.multiply(BigInteger.valueOf(cd)));
+                a = nextA;
+                b = nextB;
+            }
+        }
+        if (b.signum() == 0) {
+            return a;
+        }
+        return BigInteger.valueOf(gcd(b.longValue(), a.mod(b).longValue()));
+    }
+
+    /**
+     * get the greatest common divisor together with its Bezout coefficients
+     *
+     * <p>The coefficients are the minimal ones produced by the extended Euclidean algorithm, with
+     * {@code |x| <= b / gcd} and {@code |y| <= a / gcd}, so they never overflow.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return gcd and coefficients x, y with {@code a * x + b * y == gcd}
+     * @throws ArithmeticException if either number is negative
+     */
+    public static ExtendedGcd extendedGcd(long a, long b) {
+        if (a < 0 || b < 0) {
+            throw new ArithmeticException();
+        }
+        long x = 1;
+        long y = 0;
+        long nextX = 0;
+        long nextY = 1;
+        while (b != 0) {
+            long q = a / b;
+            long t = a - q * b;
+            a = b;
+            b = t;
+            t = x - q * nextX;
+            x = nextX;
+            nextX = t;
+            t = y - q * nextY;
+            y = nextY;
+            nextY = t;
+        }
+        return new ExtendedGcd(a, x, y);
+    }
+}
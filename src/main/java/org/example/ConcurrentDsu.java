@@ -0,0 +1,191 @@
+package org.example;
+
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+// Thread-safe Dsu: finds never block and unions link roots with a single CAS
+public class ConcurrentDsu {
+    // parent[i] >= 0 is the parent of `i`; parent[i] < 0 marks a root whose set has -parent[i] elements
+    private final AtomicIntegerArray parent;
+    private final AtomicInteger count; // Number of disjoint sets
+
+    // Constructor to initialize the data structure
+    public ConcurrentDsu(int n) {
+        this.parent = new AtomicIntegerArray(n);
+        this.count = new AtomicInteger(n); // Initially, every element is its own set
+
+        // Every element starts as the root of a set of size 1
+        for (int i = 0; i < n; i++) {
+            parent.set(i, -1);
+        }
+    }
+
+    // Finds the representative (root) of the set that contains `i`
+    public int find(int i) {
+        checkIndex(i);
+        return findRoot(i);
+    }
+
+    // Path halving with CAS; a failed CAS only means another thread already moved `i` up
+    private int findRoot(int i) {
+        while (true) {
+            int p = parent.get(i);
+            if (p < 0) {
+                return i;
+            }
+            int grandparent = parent.get(p);
+            if (grandparent < 0) {
+                return p;
+            }
+            parent.compareAndSet(i, p, grandparent);
+            i = grandparent;
+        }
+    }
+
+    // Unites the sets that include `i` and `j`
+    public void union(int i, int j) {
+        checkIndex(i);
+        checkIndex(j);
+        link(i, j);
+    }
+
+    // Unites the sets of every pair (a[k], b[k]); same result as calling union for each pair
+    public void unionAll(int[] a, int[] b) {
+        unionAll(a, b, false);
+    }
+
+    // Same as unionAll(a, b), optionally splitting the batch into chunks that run in parallel.
+    // Roots always end up at the highest-priority element of their set, so the final structure
+    // does not depend on the order in which the pairs are applied.
+    public void unionAll(int[] a, int[] b, boolean parallel) {
+        Dsu.checkBatch(a, b);
+        if (!parallel) {
+            unionRange(a, b, 0, a.length);
+            return;
+        }
+        int chunks = (a.length + Dsu.BATCH_CHUNK - 1) / Dsu.BATCH_CHUNK;
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                unionRange(a, b, c * Dsu.BATCH_CHUNK, Math.min(a.length, (c + 1) * Dsu.BATCH_CHUNK)));
+    }
+
+    private void unionRange(int[] a, int[] b, int from, int to) {
+        for (int k = from; k < to; k++) {
+            int i = a[k];
+            int j = b[k];
+            checkIndex(i);
+            checkIndex(j);
+            link(i, j);
+        }
+    }
+
+    // Unites the sets of two valid indices; returns whether this call merged two sets
+    boolean link(int i, int j) {
+        while (true) {
+            int rootI = findRoot(i);
+            int rootJ = findRoot(j);
+
+            // If already in the same set, no need to unite
+            if (rootI == rootJ) return false;
+
+            // Always link the root with the lower priority below the other one. A fixed order
+            // makes priorities increase along every path, so concurrent links can never form a cycle.
+            int child = priority(rootI) < priority(rootJ) ? rootI : rootJ;
+            int target = child == rootI ? rootJ : rootI;
+            int childSize = parent.get(child);
+            if (childSize >= 0) {
+                continue; // `child` was linked by another thread, look again
+            }
+            if (parent.compareAndSet(child, childSize, target)) {
+                addSize(target, -childSize);
+
+                // Decrement the count of disjoint sets
+                count.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    // Adds `amount` to the size of the set containing `i`, following the root if it moves
+    private void addSize(int i, int amount) {
+        while (true) {
+            int root = findRoot(i);
+            int encoded = parent.get(root);
+            if (encoded < 0 && parent.compareAndSet(root, encoded, encoded - amount)) {
+                return;
+            }
+        }
+    }
+
+    // Checks if elements `i` and `j` are in the same set
+    public boolean connected(int i, int j) {
+        checkIndex(i);
+        checkIndex(j);
+        while (true) {
+            int rootI = findRoot(i);
+            int rootJ = findRoot(j);
+            if (rootI == rootJ) {
+                return true;
+            }
+            // Distinct roots only prove disconnection if `rootI` was not linked in the meantime
+            if (parent.get(rootI) < 0) {
+                return false;
+            }
+        }
+    }
+
+    // Stores connected(a[k], b[k]) into out[k] for every pair
+    public void connectedAll(int[] a, int[] b, boolean[] out) {
+        connectedAll(a, b, out, false);
+    }
+
+    // Same as connectedAll(a, b, out), optionally answering chunks of the batch in parallel
+    public void connectedAll(int[] a, int[] b, boolean[] out, boolean parallel) {
+        Dsu.checkBatch(a, b);
+        if (out == null || out.length < a.length) {
+            throw new IllegalArgumentException("Output array is too small.");
+        }
+        if (!parallel) {
+            connectedRange(a, b, out, 0, a.length);
+            return;
+        }
+        int chunks = (a.length + Dsu.BATCH_CHUNK - 1) / Dsu.BATCH_CHUNK;
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                connectedRange(a, b, out, c * Dsu.BATCH_CHUNK, Math.min(a.length, (c + 1) * Dsu.BATCH_CHUNK)));
+    }
+
+    private void connectedRange(int[] a, int[] b, boolean[] out, int from, int to) {
+        for (int k = from; k < to; k++) {
+            out[k] = connected(a[k], b[k]);
+        }
+    }
+
+    // Returns the size of the set containing `i`
+    public int getSetSize(int i) {
+        checkIndex(i);
+        while (true) {
+            int encoded = parent.get(findRoot(i));
+            if (encoded < 0) {
+                return -encoded;
+            }
+        }
+    }
+
+    // Returns the current number of disjoint sets
+    public int getSetCount() {
+        return count.get();
+    }
+
+    // Bijective mix of the index, so linking behaves like random priorities without storing them
+    private static int priority(int i) {
+        int h = i * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= parent.length()) {
+            throw new IllegalArgumentException("Index out of bounds.");
+        }
+    }
+}
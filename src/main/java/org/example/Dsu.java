@@ -2,17 +2,37 @@ package org.example;
 
 
 import java.util.Arrays;
+import java.util.stream.IntStream;
 
 public class Dsu {
+    // Strategy used by `find` to shorten the paths it walks
+    public enum PathStrategy {
+        COMPRESSION, // Two-pass: point every node on the path directly at the root
+        HALVING,     // One-pass: point every other node at its grandparent
+        SPLITTING    // One-pass: point every node at its grandparent
+    }
+
+    static final int BATCH_CHUNK = 1 << 16; // Pairs handled per task in parallel batches
+
     private int[] parent; // Parent array
     private int[] size;   // Size array for union by size optimization
     private int count;    // Number of disjoint sets
+    private final PathStrategy strategy;
 
     // Constructor to initialize the data structure
     public Dsu(int n) {
+        this(n, PathStrategy.COMPRESSION);
+    }
+
+    // Constructor selecting how `find` shortens paths; every strategy yields the same roots
+    public Dsu(int n, PathStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Path strategy cannot be null.");
+        }
         this.parent = new int[n];
         this.size = new int[n];
         this.count = n; // Initially, every element is its own set
+        this.strategy = strategy;
 
         // Initialize Parent array
         for (int i = 0; i < n; i++) {
@@ -25,21 +45,74 @@ public class Dsu {
 
     // Finds the representative (root) of the set that contains `i`
     public int find(int i) {
-        if (i < 0 || i >= parent.length) {
-            throw new IllegalArgumentException("Index out of bounds.");
+        checkIndex(i);
+        return root(i);
+    }
+
+    // `find` without the bounds check, for callers that already validated `i`
+    private int root(int i) {
+        switch (strategy) {
+            case HALVING:
+                return findHalving(i);
+            case SPLITTING:
+                return findSplitting(i);
+            default:
+                return findCompressing(i);
         }
-        if (parent[i] != i) {
-            // Path compression: Make the parent of `i` the root of the set
-            parent[i] = find(parent[i]);
+    }
+
+    // Path compression without recursion: locate the root, then re-point the path at it
+    private int findCompressing(int i) {
+        int root = i;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        while (parent[i] != root) {
+            int next = parent[i];
+            parent[i] = root;
+            i = next;
+        }
+        return root;
+    }
+
+    // Path halving: every other node on the path skips to its grandparent
+    private int findHalving(int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
         }
-        return parent[i];
+        return i;
+    }
+
+    // Path splitting: every node on the path skips to its grandparent
+    private int findSplitting(int i) {
+        while (parent[i] != i) {
+            int next = parent[i];
+            parent[i] = parent[next];
+            i = next;
+        }
+        return i;
     }
 
     // Unites the sets that include `i` and `j`
     public void union(int i, int j) {
-        int rootI = find(i);
-        int rootJ = find(j);
+        link(find(i), find(j));
+    }
+
+    // Unites the sets of every pair (a[k], b[k]), in order; same result as calling union for each pair
+    public void unionAll(int[] a, int[] b) {
+        checkBatch(a, b);
+        for (int k = 0; k < a.length; k++) {
+            int i = a[k];
+            int j = b[k];
+            checkIndex(i);
+            checkIndex(j);
+            link(root(i), root(j));
+        }
+    }
 
+    // Merges two roots, smaller tree under larger tree
+    private void link(int rootI, int rootJ) {
         // If already in the same set, no need to unite
         if (rootI == rootJ) return;
 
@@ -61,6 +134,38 @@ public class Dsu {
         return find(i) == find(j);
     }
 
+    // Stores connected(a[k], b[k]) into out[k] for every pair
+    public void connectedAll(int[] a, int[] b, boolean[] out) {
+        connectedAll(a, b, out, false);
+    }
+
+    // Same as connectedAll(a, b, out), optionally answering chunks of the batch in parallel.
+    // Concurrent finds only ever re-point a node at one of its ancestors, so they may race
+    // with each other safely; the batch must not run concurrently with a union.
+    public void connectedAll(int[] a, int[] b, boolean[] out, boolean parallel) {
+        checkBatch(a, b);
+        if (out == null || out.length < a.length) {
+            throw new IllegalArgumentException("Output array is too small.");
+        }
+        if (!parallel) {
+            connectedRange(a, b, out, 0, a.length);
+            return;
+        }
+        int chunks = (a.length + BATCH_CHUNK - 1) / BATCH_CHUNK;
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                connectedRange(a, b, out, c * BATCH_CHUNK, Math.min(a.length, (c + 1) * BATCH_CHUNK)));
+    }
+
+    private void connectedRange(int[] a, int[] b, boolean[] out, int from, int to) {
+        for (int k = from; k < to; k++) {
+            int i = a[k];
+            int j = b[k];
+            checkIndex(i);
+            checkIndex(j);
+            out[k] = root(i) == root(j);
+        }
+    }
+
     // Returns the size of the set containing `i`
     public int getSetSize(int i) {
         return size[find(i)];
@@ -71,4 +176,21 @@ public class Dsu {
         return count;
     }
 
+    // Returns the strategy `find` uses to shorten paths
+    public PathStrategy getPathStrategy() {
+        return strategy;
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= parent.length) {
+            throw new IllegalArgumentException("Index out of bounds.");
+        }
+    }
+
+    static void checkBatch(int[] a, int[] b) {
+        if (a == null || b == null || a.length != b.length) {
+            throw new IllegalArgumentException("Pair arrays must be non-null and of equal length.");
+        }
+    }
+
 }
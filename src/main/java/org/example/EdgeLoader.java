@@ -0,0 +1,212 @@
+package org.example;
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams edge lists from disk straight into an {@link EdgeSink} such as {@link KruskalMST}.
+ *
+ * <p>Two formats are supported:
+ * <ul>
+ *   <li>binary: fixed 12-byte records of three little-endian ints (src, dest, weight), read
+ *   through read-only memory mappings of at most {@value #MAPPING_RECORDS} records each</li>
+ *   <li>CSV: one {@code src,dest,weight} line per edge, parsed byte by byte from a reused direct
+ *   buffer. Blank lines, lines starting with {@code #} and a first line starting with a letter
+ *   (a header) are skipped; spaces, tabs and {@code \r} are ignored around fields.</li>
+ * </ul>
+ * Neither path allocates per edge. Both return an {@link IngestStats} with the ingest throughput.
+ */
+public final class EdgeLoader {
+    static final int RECORD_BYTES = 12;
+    private static final int MAPPING_RECORDS = 1 << 26; // 768 MiB per mapping
+    private static final int READ_BUFFER_BYTES = 1 << 20;
+
+    private EdgeLoader() {
+    }
+
+    /**
+     * Bytes and edges read by one load and the time it took.
+     *
+     * @param bytes size of the input in bytes
+     * @param edges number of edges passed to the sink
+     * @param nanos wall-clock time of the load in nanoseconds
+     */
+    public record IngestStats(long bytes, long edges, long nanos) {
+        /**
+         * @return input throughput in megabytes (10^6 bytes) per second
+         */
+        public double megabytesPerSecond() {
+            return bytes / 1e6 / seconds();
+        }
+
+        /**
+         * @return edges passed to the sink per second
+         */
+        public double edgesPerSecond() {
+            return edges / seconds();
+        }
+
+        private double seconds() {
+            return Math.max(nanos, 1) / 1e9;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d edges, %d bytes in %.3f s (%.1f MB/s, %.0f edges/s)",
+                    edges, bytes, seconds(), megabytesPerSecond(), edgesPerSecond());
+        }
+    }
+
+    /**
+     * Loads a binary edge file of 12-byte little-endian (src, dest, weight) records.
+     *
+     * @param file the edge file
+     * @param sink receives every edge in file order
+     * @return ingest statistics
+     * @throws IOException if the file cannot be read or its size is not a multiple of 12 bytes
+     */
+    public static IngestStats loadBinary(Path file, EdgeSink sink) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes % RECORD_BYTES != 0) {
+                throw new IOException("Binary edge file size is not a multiple of " + RECORD_BYTES + " bytes: " + file);
+            }
+            long records = bytes / RECORD_BYTES;
+            if (records <= Integer.MAX_VALUE) {
+                sink.ensureCapacity((int) records);
+            }
+            for (long first = 0; first < records; first += MAPPING_RECORDS) {
+                long count = Math.min(MAPPING_RECORDS, records - first);
+                MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, first * RECORD_BYTES, count * RECORD_BYTES);
+                mapping.order(ByteOrder.LITTLE_ENDIAN);
+                int end = (int) (count * RECORD_BYTES);
+                for (int offset = 0; offset < end; offset += RECORD_BYTES) {
+                    sink.addEdge(mapping.getInt(offset), mapping.getInt(offset + 4), mapping.getInt(offset + 8));
+                }
+            }
+            return new IngestStats(bytes, records, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Loads a CSV edge file with one {@code src,dest,weight} line per edge.
+     *
+     * @param file the edge file
+     * @param sink receives every edge in file order
+     * @return ingest statistics
+     * @throws IOException if the file cannot be read or a line is not three int fields
+     */
+    public static IngestStats loadCsv(Path file, EdgeSink sink) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            CsvParser parser = new CsvParser(sink);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_BYTES);
+            long bytes = 0;
+            int read;
+            while ((read = channel.read(buffer)) != -1) {
+                bytes += read;
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    parser.accept(buffer.get());
+                }
+                buffer.clear();
+            }
+            parser.finish();
+            return new IngestStats(bytes, parser.edges, System.nanoTime() - start);
+        }
+    }
+
+    // Byte-at-a-time CSV state machine; keeps the fields of the current line in primitives
+    private static final class CsvParser {
+        private final EdgeSink sink;
+        private final int[] fields = new int[3];
+        private int field;
+        private long value;
+        private int digits;
+        private boolean negative;
+        private boolean numberEnded;
+        private boolean skippingLine;
+        private boolean lineStart = true;
+        private long line = 1;
+        private long edges;
+
+        CsvParser(EdgeSink sink) {
+            this.sink = sink;
+        }
+
+        void accept(byte b) throws IOException {
+            if (b == '\n') {
+                endLine();
+                return;
+            }
+            if (skippingLine) {
+                return;
+            }
+            if (lineStart && (b == '#' || (line == 1 && Character.isLetter(b)))) {
+                skippingLine = true;
+                return;
+            }
+            if (b >= '0' && b <= '9') {
+                if (numberEnded) {
+                    throw malformed(); // Whitespace inside a number
+                }
+                value = value * 10 + (b - '0');
+                if (++digits > 10 || value > (negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) {
+                    throw malformed();
+                }
+            } else if (b == '-' && digits == 0 && !negative) {
+                negative = true;
+            } else if (b == ',') {
+                endField();
+            } else if (b == ' ' || b == '\t' || b == '\r') {
+                numberEnded = digits > 0;
+            } else {
+                throw malformed();
+            }
+            lineStart = lineStart && (b == ' ' || b == '\t' || b == '\r');
+        }
+
+        void finish() throws IOException {
+            if (!lineStart || skippingLine) {
+                endLine();
+            }
+        }
+
+        private void endField() throws IOException {
+            if (digits == 0 || field == fields.length) {
+                throw malformed();
+            }
+            fields[field++] = (int) (negative ? -value : value);
+            value = 0;
+            digits = 0;
+            negative = false;
+            numberEnded = false;
+        }
+
+        private void endLine() throws IOException {
+            if (!skippingLine && !lineStart) {
+                endField();
+                if (field != fields.length) {
+                    throw malformed();
+                }
+                sink.addEdge(fields[0], fields[1], fields[2]);
+                edges++;
+            }
+            field = 0;
+            skippingLine = false;
+            lineStart = true;
+            line++;
+        }
+
+        private IOException malformed() {
+            return new IOException("Malformed edge on CSV line " + line);
+        }
+    }
+}
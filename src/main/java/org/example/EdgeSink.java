@@ -0,0 +1,17 @@
+package org.example;
+
+/**
+ * Receives weighted edges, one call per edge; implemented by the MST engines so loaders can
+ * feed them directly.
+ */
+public interface EdgeSink {
+    void addEdge(int src, int dest, int weight);
+
+    /**
+     * Hint that about {@code edges} edges in total are about to be added, so storage can grow once.
+     *
+     * @param edges expected total number of edges
+     */
+    default void ensureCapacity(int edges) {
+    }
+}
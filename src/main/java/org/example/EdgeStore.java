@@ -0,0 +1,165 @@
+package org.example;
+
+
+import java.util.Arrays;
+
+// Growable struct-of-arrays edge list: three parallel int arrays instead of one object per edge
+final class EdgeStore {
+    private static final int INITIAL_CAPACITY = 16;
+    static final int RADIX_THRESHOLD = 64; // Below this many edges a comparison sort is cheaper
+    private static final int RADIX_BITS = 11; // At most three passes over 32-bit keys
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+
+    private int[] src;
+    private int[] dest;
+    private int[] weight;
+    private int size;
+
+    EdgeStore() {
+        this.src = new int[INITIAL_CAPACITY];
+        this.dest = new int[INITIAL_CAPACITY];
+        this.weight = new int[INITIAL_CAPACITY];
+    }
+
+    void add(int s, int d, int w) {
+        if (size == src.length) {
+            grow(size + 1);
+        }
+        src[size] = s;
+        dest[size] = d;
+        weight[size] = w;
+        size++;
+    }
+
+    // Makes room for `capacity` edges in total, so bulk loads grow the arrays at most once
+    void ensureCapacity(int capacity) {
+        if (capacity > src.length) {
+            grow(capacity);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalStateException("Too many edges.");
+        }
+        // Grow by half, capped just below the maximum array length
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(minCapacity, src.length + (long) (src.length >> 1)));
+        if (capacity < minCapacity) {
+            throw new IllegalStateException("Too many edges.");
+        }
+        src = Arrays.copyOf(src, capacity);
+        dest = Arrays.copyOf(dest, capacity);
+        weight = Arrays.copyOf(weight, capacity);
+    }
+
+    // Forgets every edge but keeps the arrays for reuse
+    void clear() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int src(int e) {
+        return src[e];
+    }
+
+    int dest(int e) {
+        return dest[e];
+    }
+
+    int weight(int e) {
+        return weight[e];
+    }
+
+    // Edge indices ordered by weight, ties kept in insertion order like a stable sort of the edges.
+    // The sort is picked from the observed weight range: counting sort when the range is no
+    // larger than the edge count, LSD radix sort otherwise, and a comparison sort for small lists.
+    int[] sortedOrder() {
+        return sortedOrder(0, size);
+    }
+
+    // Same as sortedOrder(), restricted to the edges with index in [from, to)
+    int[] sortedOrder(int from, int to) {
+        int count = to - from;
+        if (count < RADIX_THRESHOLD) {
+            return comparisonOrder(from, count);
+        }
+        int min = weight[from];
+        int max = weight[from];
+        for (int e = from + 1; e < to; e++) {
+            min = Math.min(min, weight[e]);
+            max = Math.max(max, weight[e]);
+        }
+        long range = (long) max - min;
+        if (range < count) {
+            return countingOrder(from, count, min, (int) range + 1);
+        }
+        return radixOrder(from, count, min, 64 - Long.numberOfLeadingZeros(range));
+    }
+
+    private int[] comparisonOrder(int from, int count) {
+        // Pack (weight, index) into one long so a primitive sort orders by weight, then by index
+        long[] keys = new long[count];
+        for (int k = 0; k < count; k++) {
+            keys[k] = ((long) weight[from + k] << 32) | (from + k);
+        }
+        Arrays.sort(keys);
+        int[] order = new int[count];
+        for (int k = 0; k < count; k++) {
+            order[k] = (int) keys[k];
+        }
+        return order;
+    }
+
+    private int[] countingOrder(int from, int count, int min, int buckets) {
+        int[] start = new int[buckets + 1];
+        for (int e = from; e < from + count; e++) {
+            start[weight[e] - min + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            start[b + 1] += start[b];
+        }
+        int[] order = new int[count];
+        for (int e = from; e < from + count; e++) {
+            order[start[weight[e] - min]++] = e;
+        }
+        return order;
+    }
+
+    // Sorts (weight - min, index) pairs digit by digit; `weight - min` fits in 32 unsigned bits
+    private int[] radixOrder(int from, int count, int min, int keyBits) {
+        int[] keys = new int[count];
+        int[] order = new int[count];
+        for (int k = 0; k < count; k++) {
+            keys[k] = weight[from + k] - min;
+            order[k] = from + k;
+        }
+        int[] keysOut = new int[count];
+        int[] orderOut = new int[count];
+        int[] start = new int[RADIX + 1];
+        for (int shift = 0; shift < keyBits; shift += RADIX_BITS) {
+            Arrays.fill(start, 0);
+            for (int k = 0; k < count; k++) {
+                start[((keys[k] >>> shift) & RADIX_MASK) + 1]++;
+            }
+            for (int b = 0; b < RADIX; b++) {
+                start[b + 1] += start[b];
+            }
+            for (int k = 0; k < count; k++) {
+                int slot = start[(keys[k] >>> shift) & RADIX_MASK]++;
+                keysOut[slot] = keys[k];
+                orderOut[slot] = order[k];
+            }
+            int[] swap = keys;
+            keys = keysOut;
+            keysOut = swap;
+            swap = order;
+            order = orderOut;
+            orderOut = swap;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,254 @@
+package org.example;
+
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Out-of-core Kruskal for edge lists that do not fit in memory.
+ *
+ * <p>Edges are buffered {@code runCapacity} at a time; each full buffer is sorted and spilled
+ * to a run file in {@code workDir} (12-byte little-endian records, the {@link EdgeLoader} binary
+ * format). {@link #findMSTWeightExact()} k-way merges the runs straight into the union-find pass.
+ * When there are more than {@value #MAX_FAN_IN} runs they are first merged in groups, so memory
+ * stays bounded by the edge buffer plus {@value #MAX_FAN_IN} read buffers whatever the edge
+ * count. Only the union-find over the vertices (8 bytes per vertex) has to fit in memory.
+ *
+ * <p>Ties are broken by insertion order, as in {@link KruskalMST}, and the weight is returned
+ * as an exact {@code long}.
+ */
+public class ExternalKruskalMST implements EdgeSink, AutoCloseable {
+    static final int MAX_FAN_IN = 64;
+    private static final int READ_BUFFER_RECORDS = 4096;
+
+    private final int vertices;
+    private final Path workDir;
+    private final int runCapacity;
+    private final EdgeStore buffer;
+    private final List<Path> runs = new ArrayList<>();
+
+    public ExternalKruskalMST(int vertices, Path workDir, int runCapacity) {
+        if (runCapacity < 1) {
+            throw new IllegalArgumentException("Run capacity must be positive.");
+        }
+        this.vertices = vertices;
+        this.workDir = workDir;
+        this.runCapacity = runCapacity;
+        this.buffer = new EdgeStore();
+    }
+
+    // Spill failures surface as UncheckedIOException since EdgeSink.addEdge cannot throw IOException
+    @Override
+    public void addEdge(int src, int dest, int weight) {
+        buffer.add(src, dest, weight);
+        if (buffer.size() == runCapacity) {
+            try {
+                spill();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // Number of run files written so far
+    public int getRunCount() {
+        return runs.size();
+    }
+
+    public long findMSTWeightExact() throws IOException {
+        spill();
+        while (runs.size() > MAX_FAN_IN) {
+            mergeGroups();
+        }
+
+        // Initialize DSU
+        Dsu dsu = new Dsu(vertices);
+        int target = Math.max(0, vertices - 1);
+        long[] mstWeight = new long[1];
+        int[] edgesUsed = new int[1];
+
+        // Process the merged edges in ascending order of weight
+        merge(runs, (src, dest, weight) -> {
+            if (edgesUsed[0] == target) {
+                return false; // We've used enough edges to form an MST
+            }
+            if (!dsu.connected(src, dest)) {
+                dsu.union(src, dest);
+                mstWeight[0] += weight;
+                edgesUsed[0]++;
+            }
+            return true;
+        });
+
+        // Check if we found a valid MST
+        if (edgesUsed[0] != vertices - 1) {
+            throw new IllegalStateException("No valid MST exists - graph is not connected");
+        }
+        return mstWeight[0];
+    }
+
+    // Deletes every run file
+    @Override
+    public void close() throws IOException {
+        for (Path run : runs) {
+            Files.deleteIfExists(run);
+        }
+        runs.clear();
+        buffer.clear();
+    }
+
+    // Sorts the buffered edges and writes them out as a new run
+    private void spill() throws IOException {
+        if (buffer.size() == 0) {
+            return;
+        }
+        Path run = Files.createTempFile(workDir, "mst-run", ".bin");
+        try (RunWriter writer = new RunWriter(run)) {
+            for (int e : buffer.sortedOrder()) {
+                writer.write(buffer.src(e), buffer.dest(e), buffer.weight(e));
+            }
+        }
+        runs.add(run);
+        buffer.clear();
+    }
+
+    // Replaces every group of MAX_FAN_IN consecutive runs by their merge, keeping run order
+    private void mergeGroups() throws IOException {
+        List<Path> merged = new ArrayList<>();
+        for (int from = 0; from < runs.size(); from += MAX_FAN_IN) {
+            List<Path> group = runs.subList(from, Math.min(runs.size(), from + MAX_FAN_IN));
+            Path run = Files.createTempFile(workDir, "mst-run", ".bin");
+            try (RunWriter writer = new RunWriter(run)) {
+                merge(group, (src, dest, weight) -> {
+                    writer.write(src, dest, weight);
+                    return true;
+                });
+            }
+            for (Path old : group) {
+                Files.delete(old);
+            }
+            merged.add(run);
+        }
+        runs.clear();
+        runs.addAll(merged);
+    }
+
+    private interface RecordConsumer {
+        // Returns false to stop the merge early
+        boolean accept(int src, int dest, int weight) throws IOException;
+    }
+
+    // Streams the records of `sources` in (weight, run position) order; earlier runs win ties
+    private static void merge(List<Path> sources, RecordConsumer consumer) throws IOException {
+        PriorityQueue<RunReader> heap = new PriorityQueue<>((a, b) ->
+                a.weight != b.weight ? Integer.compare(a.weight, b.weight) : Integer.compare(a.position, b.position));
+        List<RunReader> readers = new ArrayList<>();
+        try {
+            for (int position = 0; position < sources.size(); position++) {
+                RunReader reader = new RunReader(sources.get(position), position);
+                readers.add(reader);
+                if (reader.advance()) {
+                    heap.add(reader);
+                }
+            }
+            while (!heap.isEmpty()) {
+                RunReader next = heap.poll();
+                if (!consumer.accept(next.src, next.dest, next.weight)) {
+                    return;
+                }
+                if (next.advance()) {
+                    heap.add(next);
+                }
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    // Sequential reader over one run file, exposing the current record in fields
+    private static final class RunReader implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer bytes;
+        private final int position;
+        private int src;
+        private int dest;
+        private int weight;
+
+        RunReader(Path run, int position) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.bytes = ByteBuffer.allocateDirect(READ_BUFFER_RECORDS * EdgeLoader.RECORD_BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            this.bytes.limit(0);
+            this.position = position;
+        }
+
+        boolean advance() throws IOException {
+            if (bytes.remaining() < EdgeLoader.RECORD_BYTES) {
+                bytes.compact();
+                while (bytes.position() < EdgeLoader.RECORD_BYTES && channel.read(bytes) != -1) {
+                    // Keep reading until a whole record is available or the run ends
+                }
+                bytes.flip();
+                if (bytes.remaining() < EdgeLoader.RECORD_BYTES) {
+                    return false;
+                }
+            }
+            src = bytes.getInt();
+            dest = bytes.getInt();
+            weight = bytes.getInt();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    // Buffered writer of 12-byte little-endian records
+    private static final class RunWriter implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer bytes;
+
+        RunWriter(Path run) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.bytes = ByteBuffer.allocateDirect(READ_BUFFER_RECORDS * EdgeLoader.RECORD_BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        void write(int src, int dest, int weight) throws IOException {
+            if (bytes.remaining() < EdgeLoader.RECORD_BYTES) {
+                drain();
+            }
+            bytes.putInt(src).putInt(dest).putInt(weight);
+        }
+
+        private void drain() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            bytes.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                drain();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
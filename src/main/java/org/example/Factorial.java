@@ -1,23 +1,40 @@
 package org.example;
 
 public final class Factorial {
+    /** Largest n whose factorial fits in a {@code long}. */
+    public static final int MAX_N = 20;
+
+    // FACTORIALS[n] = n!, filled once by the same loop that used to run on every call
+    private static final long[] FACTORIALS = new long[MAX_N + 1];
+
+    static {
+        FACTORIALS[0] = 1;
+        for (int i = 1; i <= MAX_N; ++i) {
+            FACTORIALS[i] = FACTORIALS[i - 1] * i;
+        }
+    }
+
     private Factorial() {
     }
 
     /**
-     * Calculate factorial N using iteration
+     * Calculate factorial N with a single table lookup
+     *
+     * <p>Only 0! to 20! fit in a {@code long}; larger n fail instead of returning an overflowed
+     * value. Use {@link BigFactorial} for exact larger factorials.
      *
      * @param n the number
      * @return the factorial of {@code n}
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @throws ArithmeticException if {@code n} is greater than {@link #MAX_N}
      */
     public static long factorial(int n) {
         if (n < 0) {
             throw new IllegalArgumentException("Input number cannot be negative");
         }
-        long factorial = 1;
-        for (int i = 1; i <= n; ++i) {
-            factorial *= i;
+        if (n > MAX_N) {
+            throw new ArithmeticException("long overflow: " + n + "! exceeds Long.MAX_VALUE");
         }
-        return factorial;
+        return FACTORIALS[n];
     }
 }
\ No newline at end of file
@@ -6,13 +6,18 @@ public final class FactorialRecursion {
     /**
      * Recursive FactorialRecursion Method
      *
+     * Every factorial that fits in a {@code long} is precomputed, so this no longer recurses:
+     * it is served by {@link Factorial#factorial(int)}.
+     *
      * @param n The number to factorial
      * @return The factorial of the number
+     * @throws IllegalArgumentException if the number is negative
+     * @throws ArithmeticException if the number is greater than {@link Factorial#MAX_N}
      */
     public static long factorial(int n) {
         if (n < 0) {
             throw new IllegalArgumentException("number is negative");
         }
-        return n == 0 || n == 1 ? 1 : n * factorial(n - 1);
+        return Factorial.factorial(n);
     }
 }
\ No newline at end of file
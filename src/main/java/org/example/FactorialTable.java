@@ -0,0 +1,220 @@
+package org.example;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Precomputed n! mod p and (n!)^-1 mod p for every n up to a fixed maximum, for O(1)
+ * binomial coefficients modulo a prime.
+ *
+ * <p>The factorials are built with one multiplication each. Only (maxN!)^-1 needs a modular
+ * inverse, by Fermat's little theorem through {@link FastExponentiation#fastExponentiation};
+ * the other inverses follow from {@code (k-1)!^-1 = k!^-1 * k}. The prime must be below 2^31, so
+ * each table entry fits in an {@code int} and every product of two entries fits in a
+ * {@code long}; maxN must be below p, since p! and beyond are 0 mod p.
+ *
+ * <p>Tables are immutable once built and can be shared between threads without locking. They
+ * can be saved to a file and loaded back, which costs one sequential read instead of the O(maxN)
+ * build. The file holds a 12-byte header (magic, maxN, p) followed by both tables as
+ * little-endian ints; it is written and read through a reused buffer of
+ * {@value #IO_CHUNK_INTS} ints, so tables of any size, up to 16 GiB on disk, fit.
+ */
+public final class FactorialTable {
+    private static final int MAGIC = 0x46414354; // "FACT"
+    private static final int HEADER_BYTES = 12;
+    static final int IO_CHUNK_INTS = 1 << 20; // Ints per write or read; 4 MiB
+
+    private final int maxN;
+    private final int p;
+    private final int[] factorials;        // factorials[n] = n! mod p
+    private final int[] inverseFactorials; // inverseFactorials[n] = (n!)^-1 mod p
+
+    /**
+     * Builds the tables for 0 ≤ n ≤ maxN modulo p.
+     *
+     * @param maxN largest n the table answers for
+     * @param p the prime modulus, below 2^31
+     * @throws IllegalArgumentException if maxN is negative, p is not a prime below 2^31, or
+     *         maxN is not below p
+     */
+    public FactorialTable(int maxN, long p) {
+        if (maxN < 0) {
+            throw new IllegalArgumentException("Maximum n cannot be negative.");
+        }
+        if (!isPrimeModulus(p)) {
+            throw new IllegalArgumentException("Modulus must be a prime below 2^31.");
+        }
+        if (maxN >= p) {
+            throw new IllegalArgumentException("Maximum n must be below the modulus.");
+        }
+        this.maxN = maxN;
+        this.p = (int) p;
+        this.factorials = new int[maxN + 1];
+        this.inverseFactorials = new int[maxN + 1];
+
+        factorials[0] = 1;
+        for (int n = 1; n <= maxN; n++) {
+            factorials[n] = (int) ((long) factorials[n - 1] * n % p);
+        }
+        // p is prime, so x^(p-2) is the inverse of x
+        inverseFactorials[maxN] = (int) FastExponentiation.fastExponentiation(factorials[maxN], p - 2, p);
+        for (int n = maxN; n > 0; n--) {
+            inverseFactorials[n - 1] = (int) ((long) inverseFactorials[n] * n % p);
+        }
+    }
+
+    private FactorialTable(int maxN, int p, int[] factorials, int[] inverseFactorials) {
+        this.maxN = maxN;
+        this.p = p;
+        this.factorials = factorials;
+        this.inverseFactorials = inverseFactorials;
+    }
+
+    /**
+     * @param n the number, between 0 and {@link #getMaxN()}
+     * @return n! mod p
+     * @throws IllegalArgumentException if n is out of range
+     */
+    public int factorial(int n) {
+        checkIndex(n);
+        return factorials[n];
+    }
+
+    /**
+     * @param n the number, between 0 and {@link #getMaxN()}
+     * @return (n!)^-1 mod p
+     * @throws IllegalArgumentException if n is out of range
+     */
+    public int inverseFactorial(int n) {
+        checkIndex(n);
+        return inverseFactorials[n];
+    }
+
+    /**
+     * Binomial coefficient C(n, k) mod p as n! * (k!)^-1 * ((n-k)!)^-1.
+     *
+     * @param n the number of items, between 0 and {@link #getMaxN()}
+     * @param k the number chosen; C(n, k) is 0 for k below 0 or above n
+     * @return C(n, k) mod p
+     * @throws IllegalArgumentException if n is out of range
+     */
+    public int binomial(int n, int k) {
+        checkIndex(n);
+        if (k < 0 || k > n) {
+            return 0;
+        }
+        return (int) ((long) factorials[n] * inverseFactorials[k] % p * inverseFactorials[n - k] % p);
+    }
+
+    /**
+     * @return largest n the table answers for
+     */
+    public int getMaxN() {
+        return maxN;
+    }
+
+    /**
+     * @return the prime modulus
+     */
+    public int getModulus() {
+        return p;
+    }
+
+    /**
+     * Writes the table to a file, replacing any existing content.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(IO_CHUNK_INTS * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.putInt(MAGIC).putInt(maxN).putInt(p).flip();
+            writeFully(channel, buffer);
+            write(channel, buffer, factorials);
+            write(channel, buffer, inverseFactorials);
+        }
+    }
+
+    /**
+     * Reads a table written by {@link #save(Path)}.
+     *
+     * @param file the file to read
+     * @return the table stored in the file
+     * @throws IOException if the file cannot be read or does not hold a factorial table
+     */
+    public static FactorialTable load(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(IO_CHUNK_INTS * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes < HEADER_BYTES) {
+                throw new IOException("Not a factorial table file: " + file);
+            }
+            buffer.limit(HEADER_BYTES);
+            readFully(channel, buffer);
+            int maxN = buffer.getInt(4);
+            int p = buffer.getInt(8);
+            // The header is trusted no further than the constructor trusts its arguments
+            if (buffer.getInt(0) != MAGIC || maxN < 0 || maxN >= p || !isPrimeModulus(p)
+                    || bytes != HEADER_BYTES + 8L * (maxN + 1)) {
+                throw new IOException("Not a factorial table file: " + file);
+            }
+            int[] factorials = new int[maxN + 1];
+            int[] inverseFactorials = new int[maxN + 1];
+            read(channel, buffer, factorials);
+            read(channel, buffer, inverseFactorials);
+            return new FactorialTable(maxN, p, factorials, inverseFactorials);
+        }
+    }
+
+    private static boolean isPrimeModulus(long p) {
+        return p >= 2 && p <= Integer.MAX_VALUE && BigInteger.valueOf(p).isProbablePrime(64);
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, int[] values) throws IOException {
+        for (int from = 0; from < values.length; from += IO_CHUNK_INTS) {
+            int count = Math.min(IO_CHUNK_INTS, values.length - from);
+            buffer.clear();
+            buffer.asIntBuffer().put(values, from, count);
+            buffer.limit(count * Integer.BYTES);
+            writeFully(channel, buffer);
+        }
+    }
+
+    private static void read(FileChannel channel, ByteBuffer buffer, int[] values) throws IOException {
+        for (int from = 0; from < values.length; from += IO_CHUNK_INTS) {
+            int count = Math.min(IO_CHUNK_INTS, values.length - from);
+            buffer.clear().limit(count * Integer.BYTES);
+            readFully(channel, buffer);
+            buffer.asIntBuffer().get(values, from, count);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // Fills the buffer from its position to its limit, then rewinds it for reading
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of factorial table file.");
+            }
+        }
+        buffer.flip();
+    }
+
+    private void checkIndex(int n) {
+        if (n < 0 || n > maxN) {
+            throw new IllegalArgumentException("Index out of bounds.");
+        }
+    }
+}
@@ -19,6 +19,16 @@ package org.example;
  */
 public final class FastExponentiation {
 
+    /**
+     * Largest modulus for which {@code (mod - 1) * (mod - 1)} still fits in a {@code long},
+     * so that {@code base * base % mod} cannot overflow.
+     */
+    static final long MAX_DIRECT_MODULUS = 3_037_000_500L;
+
+    // Context of the most recent large modulus; callers usually repeat one modulus, so the
+    // Montgomery setup is paid once per modulus change rather than once per call
+    private static volatile ModPowContext lastContext;
+
     /**
      * Private constructor to hide the implicit public one.
      */
@@ -32,6 +42,12 @@ public final class FastExponentiation {
      * <p>This method efficiently computes the result by squaring the base and halving
      * the exponent at each step. It multiplies the base to the result when the exponent is odd.
      *
+     * <p>As with Java's {@code %}, the result takes the sign of base^exp: it lies in (-mod, 0] for a
+     * negative base and an odd exponent, and in [0, mod) otherwise. Moduli above
+     * {@link #MAX_DIRECT_MODULUS} would overflow {@code base * base}, so they are delegated to
+     * {@link ModPowContext} and its [0, mod) result is shifted to the same convention. The
+     * context of the last such modulus is kept, so repeated calls with one modulus reuse it.
+     *
      * @param base the base number to be raised to the power of exp
      * @param exp the exponent to which the base is raised
      * @param mod the modulus to ensure the result does not overflow
@@ -48,7 +64,11 @@ public final class FastExponentiation {
             throw new ArithmeticException("Negative exponent is not supported.");
         }
 
-        long result = 1;
+        if (mod > MAX_DIRECT_MODULUS) {
+            return signed(context(mod).pow(base, exp), base, exp, mod);
+        }
+
+        long result = 1 % mod; // 0 when mod is 1, even for exp == 0
         base = base % mod; // Take the modulus of the base to handle large base values
 
         // Fast exponentiation by squaring algorithm
@@ -64,4 +84,59 @@ public final class FastExponentiation {
 
         return result;
     }
+
+    /**
+     * Computes {@code out[i] = (bases[i]^exps[i]) % mod} for a whole batch sharing one modulus,
+     * with the same results, signs included, as {@link #fastExponentiation} on each element.
+     *
+     * <p>The modulus is validated and its {@link ModPowContext} built once for the batch rather
+     * than once per call, and the exponentiations run four at a time in lock step
+     * (see {@link ModPowContext#pow(long[], long[], long[])}).
+     *
+     * @param bases the bases
+     * @param exps the exponents, same length as {@code bases}
+     * @param mod the modulus shared by the whole batch
+     * @param out receives the results; must be at least as long as {@code bases}
+     * @throws IllegalArgumentException if the modulus is less than or equal to 0, an array is null
+     *         or the lengths do not match
+     * @throws ArithmeticException if an exponent is negative
+     */
+    public static void powMod(long[] bases, long[] exps, long mod, long[] out) {
+        powMod(bases, exps, mod, out, false);
+    }
+
+    /**
+     * Same as {@link #powMod(long[], long[], long, long[])}, optionally computing chunks of the
+     * batch in parallel. Worth it for batches of tens of thousands of exponentiations and up.
+     *
+     * @param bases the bases
+     * @param exps the exponents, same length as {@code bases}
+     * @param mod the modulus shared by the whole batch
+     * @param out receives the results; must be at least as long as {@code bases}
+     * @param parallel whether to split the batch across threads
+     * @throws IllegalArgumentException if the modulus is less than or equal to 0, an array is null
+     *         or the lengths do not match
+     * @throws ArithmeticException if an exponent is negative
+     */
+    public static void powMod(long[] bases, long[] exps, long mod, long[] out, boolean parallel) {
+        ModPowContext.of(mod).pow(bases, exps, out, parallel);
+        for (int i = 0; i < bases.length; i++) {
+            out[i] = signed(out[i], bases[i], exps[i], mod);
+        }
+    }
+
+    // Shifts a [0, mod) result of base^exp to the sign convention of the % loop: a negative power
+    // leaves a remainder in (-mod, 0]
+    private static long signed(long result, long base, long exp, long mod) {
+        return base < 0 && (exp & 1) == 1 && result != 0 ? result - mod : result;
+    }
+
+    private static ModPowContext context(long mod) {
+        ModPowContext context = lastContext;
+        if (context == null || context.getModulus() != mod) {
+            context = ModPowContext.of(mod); // Immutable, so a racing overwrite is harmless
+            lastContext = context;
+        }
+        return context;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package org.example;
+
+/**
+ * Modular exponentiation of one fixed base to many exponents, using a precomputed comb table.
+ *
+ * <p>The exponent is cut into windows of {@code w} bits. For window {@code i} and every digit
+ * {@code d} in [1, 2^w) the table holds {@code base^(d * 2^(w * i))}, so
+ * {@code base^exp} is just the product of one entry per non-zero window: about
+ * {@code ceil(63 / w)} multiplications and no squarings at all, where
+ * {@link FastExponentiation#fastExponentiation} needs up to 63 squarings and 63 multiplications.
+ *
+ * <p>The window width sets the memory-versus-speed trade-off. The table holds
+ * {@code ceil(63 / w) * 2^w} longs:
+ * <ul>
+ *   <li>w = 4: 256 longs (2 KiB), 16 multiplications</li>
+ *   <li>w = 8: 2048 longs (16 KiB), 8 multiplications</li>
+ *   <li>w = 12: 24576 longs (192 KiB), 6 multiplications</li>
+ *   <li>w = 16: 262144 longs (2 MiB), 4 multiplications</li>
+ * </ul>
+ * Tables that outgrow the L1/L2 caches lose part of their advantage to cache misses.
+ *
+ * <p>Arithmetic goes through a {@link ModPowContext}, so every positive {@code long} modulus is
+ * supported. Instances are immutable and can be shared between threads.
+ */
+public final class FixedBasePowMod {
+    /** Window width used by {@link #FixedBasePowMod(long, long)}. */
+    public static final int DEFAULT_WINDOW_BITS = 8;
+    /** Largest supported window width. */
+    public static final int MAX_WINDOW_BITS = 16;
+
+    private final long base;
+    private final ModPowContext context;
+    private final int windowBits;
+    private final long[] table; // table[(i << windowBits) + d] = base^(d * 2^(windowBits * i)), Montgomery form
+
+    /**
+     * Builds the table for {@code base} modulo {@code mod} with {@link #DEFAULT_WINDOW_BITS}.
+     *
+     * @param base the fixed base, any value
+     * @param mod the modulus
+     * @throws IllegalArgumentException if the modulus is less than or equal to 0
+     */
+    public FixedBasePowMod(long base, long mod) {
+        this(base, mod, DEFAULT_WINDOW_BITS);
+    }
+
+    /**
+     * Builds the table for {@code base} modulo {@code mod}.
+     *
+     * @param base the fixed base, any value
+     * @param mod the modulus
+     * @param windowBits the window width, between 1 and {@link #MAX_WINDOW_BITS}
+     * @throws IllegalArgumentException if the modulus is less than or equal to 0 or the window
+     *         width is out of range
+     */
+    public FixedBasePowMod(long base, long mod, int windowBits) {
+        if (windowBits < 1 || windowBits > MAX_WINDOW_BITS) {
+            throw new IllegalArgumentException("Window width must be between 1 and " + MAX_WINDOW_BITS + ".");
+        }
+        this.base = base;
+        this.context = ModPowContext.of(mod);
+        this.windowBits = windowBits;
+
+        int digits = 1 << windowBits;
+        int windows = (Long.SIZE - 2 + windowBits) / windowBits; // ceil(63 / w)
+        this.table = new long[windows * digits];
+        long g = context.toMontgomeryBase(base); // base^(2^(w * i)) for the current window
+        for (int i = 0; i < windows; i++) {
+            int row = i * digits;
+            table[row] = context.montgomeryOne();
+            for (int d = 1; d < digits; d++) {
+                table[row + d] = context.montgomeryMultiply(table[row + d - 1], g);
+            }
+            g = context.montgomeryMultiply(table[row + digits - 1], g);
+        }
+    }
+
+    /**
+     * Computes (base^exp) mod m with one table lookup and multiplication per non-zero window.
+     *
+     * @param exp the exponent
+     * @return (base^exp) mod m, in [0, mod)
+     * @throws ArithmeticException if the exponent is negative
+     */
+    public long pow(long exp) {
+        if (exp < 0) {
+            throw new ArithmeticException("Negative exponent is not supported.");
+        }
+        long mask = (1L << windowBits) - 1;
+        long result = context.montgomeryOne();
+        int row = 0;
+        for (long e = exp; e != 0; e >>>= windowBits) {
+            int digit = (int) (e & mask);
+            if (digit != 0) {
+                result = context.montgomeryMultiply(result, table[row + digit]);
+            }
+            row += 1 << windowBits;
+        }
+        return context.finishPow(result, base, exp);
+    }
+
+    /**
+     * @return the fixed base
+     */
+    public long getBase() {
+        return base;
+    }
+
+    /**
+     * @return the modulus
+     */
+    public long getModulus() {
+        return context.getModulus();
+    }
+
+    /**
+     * @return the window width in bits
+     */
+    public int getWindowBits() {
+        return windowBits;
+    }
+
+    /**
+     * @return the number of {@code long} entries in the precomputed table
+     */
+    public int getTableSize() {
+        return table.length;
+    }
+}
@@ -1,6 +1,14 @@
 package org.example;
 
+import java.nio.IntBuffer;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
 public final class GCD {
+    static final int PARALLEL_CHUNK = 1 << 16; // Numbers reduced per task in parallel reductions
+    private static final int STOP_CHECK_MASK = (1 << 10) - 1; // Check the shared stop flag every 1024 numbers
+
     private GCD() {
     }
 
@@ -31,6 +39,8 @@ public final class GCD {
     /**
      * @brief computes gcd of an array of numbers
      *
+     * Stops at the first point where the gcd reaches 1, since no later number can change it.
+     *
      * @param numbers the input array
      * @return gcd of all of the numbers in the input array
      */
@@ -38,8 +48,102 @@ public final class GCD {
         int result = 0;
         for (final var number : numbers) {
             result = gcd(result, number);
+            if (result == 1) {
+                break; // Nothing can lower the gcd below 1
+            }
         }
 
         return result;
     }
+
+    /**
+     * @brief computes gcd of an array of numbers, optionally in parallel
+     *
+     * The array is split into chunks reduced on the common fork-join pool; gcd is associative
+     * and commutative, so the chunk results are combined in any order. Once any chunk reaches 1
+     * the others stop at their next check. As with {@link #gcd(int...)}, numbers after the gcd
+     * reaches 1 may be skipped, so a negative number there is not always reported.
+     *
+     * @param numbers the input array
+     * @param parallel whether to reduce chunks of the array in parallel
+     * @return gcd of all of the numbers in the input array
+     */
+    public static int gcd(int[] numbers, boolean parallel) {
+        return parallel ? gcdParallel(IntBuffer.wrap(numbers)) : gcd(numbers);
+    }
+
+    /**
+     * @brief computes gcd of the numbers between the position and the limit of a buffer
+     *
+     * Works on heap, direct and memory-mapped buffers alike without copying; the buffer's
+     * position is left unchanged.
+     *
+     * @param numbers the input buffer
+     * @return gcd of the remaining numbers in the buffer
+     */
+    public static int gcd(IntBuffer numbers) {
+        return gcd(numbers, false);
+    }
+
+    /**
+     * @brief computes gcd of the numbers between the position and the limit of a buffer,
+     * optionally in parallel
+     *
+     * @param numbers the input buffer
+     * @param parallel whether to reduce chunks of the buffer in parallel
+     * @return gcd of the remaining numbers in the buffer
+     */
+    public static int gcd(IntBuffer numbers, boolean parallel) {
+        return parallel
+                ? gcdParallel(numbers)
+                : gcdRange(numbers, numbers.position(), numbers.limit(), new AtomicBoolean());
+    }
+
+    /**
+     * @brief computes gcd of a stream of numbers
+     *
+     * A sequential stream stops being consumed once the gcd reaches 1; a parallel stream is
+     * reduced in parallel.
+     *
+     * @param numbers the input stream
+     * @return gcd of all of the numbers in the stream
+     */
+    public static int gcd(IntStream numbers) {
+        if (numbers.isParallel()) {
+            return numbers.reduce(0, GCD::gcd);
+        }
+        int result = 0;
+        PrimitiveIterator.OfInt iterator = numbers.iterator();
+        while (result != 1 && iterator.hasNext()) {
+            result = gcd(result, iterator.nextInt());
+        }
+        return result;
+    }
+
+    private static int gcdParallel(IntBuffer numbers) {
+        int from = numbers.position();
+        int to = numbers.limit();
+        AtomicBoolean reachedOne = new AtomicBoolean();
+        int chunks = (to - from + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+        return IntStream.range(0, chunks).parallel()
+                .map(c -> gcdRange(numbers, from + c * PARALLEL_CHUNK,
+                        Math.min(to, from + (c + 1) * PARALLEL_CHUNK), reachedOne))
+                .reduce(0, GCD::gcd);
+    }
+
+    // gcd of numbers[from, to); gives up early once this or another chunk has reached 1
+    private static int gcdRange(IntBuffer numbers, int from, int to, AtomicBoolean reachedOne) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            if ((i & STOP_CHECK_MASK) == 0 && reachedOne.get()) {
+                return 1;
+            }
+            result = gcd(result, numbers.get(i));
+            if (result == 1) {
+                reachedOne.set(true);
+                return 1;
+            }
+        }
+        return result;
+    }
 }
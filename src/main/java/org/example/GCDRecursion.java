@@ -15,6 +15,9 @@ public final class GCDRecursion {
     /**
      * get greatest common divisor
      *
+     * The recursion gcd(a, b) = gcd(b, a % b) is a tail call, so it runs as a loop in constant
+     * stack space, computing each remainder once.
+     *
      * @param a the first number
      * @param b the second number
      * @return gcd
@@ -28,10 +31,13 @@ public final class GCDRecursion {
             return Math.abs(a - b);
         }
 
-        if (a % b == 0) {
-            return b;
-        } else {
-            return gcd(b, a % b);
+        int remainder = a % b;
+        while (remainder != 0) {
+            // Same as the recursive step gcd(b, a % b)
+            a = b;
+            b = remainder;
+            remainder = a % b;
         }
+        return b;
     }
 }
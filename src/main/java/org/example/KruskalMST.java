@@ -1,9 +1,17 @@
 package org.example;
 
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class KruskalMST {
+public class KruskalMST implements EdgeSink {
     static class Edge implements Comparable<Edge> {
         int src, dest, weight;
 
@@ -19,72 +27,238 @@ public class KruskalMST {
         }
     }
 
-    private List<Edge> edges;
+    private final EdgeStore edges;
     private int vertices;
 
+    // Cached minimum spanning forest, valid for the first `processedEdges` edges. Appending edges
+    // only sets `dirty`: by the cycle property the next forest only needs the cached forest edges
+    // plus the appended ones, so the rest of the sorted edge list never has to be kept.
+    private boolean dirty = true;
+    private int processedEdges;
+    private int[] forest;      // Forest edge indices in selection order (by weight, then index)
+    private int forestSize;
+    private long forestWeight;
+    private List<Edge> mstEdges; // Built on first request from the cached forest
+
     public KruskalMST(int vertices) {
         this.vertices = vertices;
-        this.edges = new ArrayList<>();
+        this.edges = new EdgeStore();
+    }
+
+    @Override
+    public void ensureCapacity(int edges) {
+        this.edges.ensureCapacity(edges);
     }
 
+    @Override
     public void addEdge(int src, int dest, int weight) {
-        edges.add(new Edge(src, dest, weight));
+        edges.add(src, dest, weight);
+        dirty = true;
     }
 
+    // Throws ArithmeticException if the total does not fit in an int; see findMSTWeightExact
     public int findMSTWeight() {
-        // Sort edges by weight
-        Collections.sort(edges);
+        return Math.toIntExact(findMSTWeightExact());
+    }
 
-        // Initialize DSU
-        Dsu dsu = new Dsu(vertices);
+    // Exact MST weight: at most V - 1 int weights, so the sum always fits in a long
+    public long findMSTWeightExact() {
+        requireSpanningTree();
+        return forestWeight;
+    }
 
-        int mstWeight = 0;
-        int edgesUsed = 0;
+    // Optional: Method to get the actual MST edges. The list is cached and therefore read-only.
+    public List<Edge> getMSTEdges() {
+        requireSpanningTree();
+        if (mstEdges == null) {
+            List<Edge> list = new ArrayList<>(forestSize);
+            for (int k = 0; k < forestSize; k++) {
+                int e = forest[k];
+                list.add(edgeAt(e));
+            }
+            mstEdges = Collections.unmodifiableList(list);
+        }
+        return mstEdges;
+    }
 
-        // Process edges in ascending order of weight
-        for (Edge edge : edges) {
-            // If including this edge doesn't create a cycle
-            if (!dsu.connected(edge.src, edge.dest)) {
-                dsu.union(edge.src, edge.dest);
-                mstWeight += edge.weight;
-                edgesUsed++;
+    // Lazily yields the MST edges in increasing weight order (ties in insertion order), doing only
+    // as much work as the caller consumes: a heap over all edges is built in O(m) and each edge
+    // taken costs O(log m) pops. Taking the first k edges gives single-linkage clustering into
+    // V - k clusters. For a disconnected graph the iteration simply ends with the spanning forest.
+    // The iterator works on a snapshot of the edges added so far.
+    public Iterator<Edge> mstEdgeIterator() {
+        if (!dirty && forest != null) {
+            return new ForestIterator(forest, forestSize);
+        }
+        return new LazyMSTIterator();
+    }
+
+    // Stream view of mstEdgeIterator()
+    public Stream<Edge> mstEdgeStream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(mstEdgeIterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private Edge edgeAt(int e) {
+        return new Edge(edges.src(e), edges.dest(e), edges.weight(e));
+    }
+
+    // Replays an already computed forest
+    private final class ForestIterator implements Iterator<Edge> {
+        private final int[] chosen;
+        private final int size;
+        private int next;
+
+        ForestIterator(int[] chosen, int size) {
+            this.chosen = chosen;
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Edge next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return edgeAt(chosen[next++]);
+        }
+    }
+
+    // Kruskal driven by a binary min-heap of packed (weight, index) keys
+    private final class LazyMSTIterator implements Iterator<Edge> {
+        private final long[] heap;
+        private int heapSize;
+        private final Dsu dsu = new Dsu(vertices);
+        private int remaining = Math.max(0, vertices - 1);
+        private int pending = -1; // Next MST edge, found by hasNext but not yet returned
+
+        LazyMSTIterator() {
+            heapSize = edges.size();
+            heap = new long[heapSize];
+            for (int e = 0; e < heapSize; e++) {
+                heap[e] = ((long) edges.weight(e) << 32) | e;
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (pending < 0 && remaining > 0 && heapSize > 0) {
+                int e = (int) heap[0];
+                heap[0] = heap[--heapSize];
+                siftDown(0);
+
+                // If including this edge doesn't create a cycle
+                if (!dsu.connected(edges.src(e), edges.dest(e))) {
+                    dsu.union(edges.src(e), edges.dest(e));
+                    pending = e;
+                    remaining--;
+                }
+            }
+            return pending >= 0;
+        }
+
+        @Override
+        public Edge next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int e = pending;
+            pending = -1;
+            return edgeAt(e);
+        }
 
-                // If we've used enough edges to form an MST
-                if (edgesUsed == vertices - 1) {
+        private void siftDown(int i) {
+            long key = heap[i];
+            int child;
+            while ((child = 2 * i + 1) < heapSize) {
+                if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (heap[child] >= key) {
                     break;
                 }
+                heap[i] = heap[child];
+                i = child;
             }
+            heap[i] = key;
         }
+    }
+
+    private void requireSpanningTree() {
+        refresh();
 
         // Check if we found a valid MST
-        if (edgesUsed != vertices - 1) {
+        if (forestSize != vertices - 1) {
             throw new IllegalStateException("No valid MST exists - graph is not connected");
         }
+    }
 
-        return mstWeight;
+    // Brings the cached forest up to date with the edges appended since the last query
+    private void refresh() {
+        if (!dirty) {
+            return;
+        }
+        int[] candidates;
+        if (forest == null) {
+            candidates = edges.sortedOrder();
+        } else {
+            candidates = merge(forest, forestSize, edges.sortedOrder(processedEdges, edges.size()));
+        }
+        runKruskal(candidates);
+        processedEdges = edges.size();
+        mstEdges = null;
+        dirty = false;
     }
 
-    // Optional: Method to get the actual MST edges
-    public List<Edge> getMSTEdges() {
-        Collections.sort(edges);
-        List<Edge> mstEdges = new ArrayList<>();
+    // Merges two index lists sorted by weight; on equal weights the older (smaller) index comes first
+    private int[] merge(int[] old, int oldSize, int[] added) {
+        int[] merged = new int[oldSize + added.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < oldSize && j < added.length) {
+            merged[k++] = edges.weight(added[j]) < edges.weight(old[i]) ? added[j++] : old[i++];
+        }
+        while (i < oldSize) {
+            merged[k++] = old[i++];
+        }
+        while (j < added.length) {
+            merged[k++] = added[j++];
+        }
+        return merged;
+    }
+
+    // Runs Kruskal over `order` (edge indices sorted by weight) and caches the resulting forest
+    private void runKruskal(int[] order) {
+        // Initialize DSU
         Dsu dsu = new Dsu(vertices);
 
-        for (Edge edge : edges) {
-            if (!dsu.connected(edge.src, edge.dest)) {
-                dsu.union(edge.src, edge.dest);
-                mstEdges.add(edge);
+        int[] chosen = new int[Math.max(0, vertices - 1)];
+        int edgesUsed = 0;
+        long weight = 0;
 
-                if (mstEdges.size() == vertices - 1) {
-                    break;
-                }
+        // Process edges in ascending order of weight
+        for (int e : order) {
+            if (edgesUsed == chosen.length) {
+                break; // We've used enough edges to form an MST
+            }
+            // If including this edge doesn't create a cycle
+            if (!dsu.connected(edges.src(e), edges.dest(e))) {
+                dsu.union(edges.src(e), edges.dest(e));
+                chosen[edgesUsed++] = e;
+                weight += edges.weight(e);
             }
         }
 
-        if (mstEdges.size() != vertices - 1) {
-            throw new IllegalStateException("No valid MST exists - graph is not connected");
-        }
-
-        return mstEdges;
+        forest = chosen;
+        forestSize = edgesUsed;
+        forestWeight = weight;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,276 @@
+package org.example;
+
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed modular arithmetic for one modulus, reusable across any number of calls.
+ *
+ * <p>The modulus is split as {@code mod = odd * 2^twos}. Arithmetic modulo the odd part uses
+ * Montgomery multiplication with R = 2^64: each product is a 64x64-bit multiply
+ * ({@link Math#unsignedMultiplyHigh}) followed by a reduction made of two more multiplies, with
+ * no division at all. Arithmetic modulo {@code 2^twos} is plain wrapping multiplication with a
+ * mask, and the two results are joined with the Chinese remainder theorem. This is correct for
+ * every positive {@code long} modulus, unlike {@code a * b % mod}, which overflows once
+ * {@code mod} exceeds about 3.04 * 10^9.
+ *
+ * <p>Instances are immutable and can be shared between threads.
+ */
+public final class ModPowContext {
+    static final int BATCH_CHUNK = 1 << 12; // Exponentiations handled per task in parallel batches
+    private static final int LANES = 4;     // Independent chains interleaved by the batch loop
+
+    private final long mod;
+    private final long odd;      // Odd part of the modulus
+    private final long oddNegInv; // -odd^-1 mod 2^64, the Montgomery reduction constant
+    private final long rModOdd;   // R mod odd, i.e. 1 in Montgomery form
+    private final long r2ModOdd;  // R^2 mod odd, converts into Montgomery form
+    private final long evenMask;  // 2^twos - 1
+    private final long oddInvModEven; // odd^-1 mod 2^twos, for the CRT step
+
+    private ModPowContext(long mod) {
+        this.mod = mod;
+        int twos = Long.numberOfTrailingZeros(mod);
+        this.odd = mod >>> twos;
+        this.evenMask = (1L << twos) - 1;
+
+        // Newton iteration doubles the correct low bits each step: 3 -> 6 -> 12 -> 24 -> 48 -> 96
+        long inverse = odd;
+        for (int i = 0; i < 5; i++) {
+            inverse *= 2 - odd * inverse;
+        }
+        this.oddNegInv = -inverse;
+        this.oddInvModEven = inverse & evenMask;
+
+        // 2^64 - odd is congruent to 2^64 modulo odd
+        long r = Long.remainderUnsigned(-odd, odd);
+        this.rModOdd = r;
+        long r2 = r;
+        for (int i = 0; i < 64; i++) {
+            r2 = addOdd(r2, r2);
+        }
+        this.r2ModOdd = r2;
+    }
+
+    /**
+     * Builds the context for a modulus.
+     *
+     * @param mod the modulus
+     * @return a context computing modulo {@code mod}
+     * @throws IllegalArgumentException if the modulus is less than or equal to 0
+     */
+    public static ModPowContext of(long mod) {
+        if (mod <= 0) {
+            throw new IllegalArgumentException("Modulus must be positive.");
+        }
+        return new ModPowContext(mod);
+    }
+
+    /**
+     * @return the modulus of this context
+     */
+    public long getModulus() {
+        return mod;
+    }
+
+    /**
+     * Computes (base^exp) mod m by exponentiation by squaring.
+     *
+     * @param base the base, any value; negative bases are reduced to [0, mod)
+     * @param exp the exponent
+     * @return (base^exp) mod m, in [0, mod)
+     * @throws ArithmeticException if the exponent is negative
+     */
+    public long pow(long base, long exp) {
+        if (exp < 0) {
+            throw new ArithmeticException("Negative exponent is not supported.");
+        }
+        return finishPow(powMontgomery(toMontgomeryBase(base), exp), base, exp);
+    }
+
+    /**
+     * Computes {@code out[i] = (bases[i]^exps[i]) mod m} for every index of the batch.
+     *
+     * <p>Four exponentiations are advanced together, one bit per round, and each multiply
+     * selects the Montgomery one instead of branching when a bit is clear. The four multiply
+     * chains are independent, so the CPU overlaps their latencies instead of waiting on one
+     * chain at a time.
+     *
+     * @param bases the bases, any values
+     * @param exps the exponents, same length as {@code bases}
+     * @param out receives the results; must be at least as long as {@code bases}
+     * @throws IllegalArgumentException if an array is null or the lengths do not match
+     * @throws ArithmeticException if an exponent is negative
+     */
+    public void pow(long[] bases, long[] exps, long[] out) {
+        pow(bases, exps, out, false);
+    }
+
+    /**
+     * Same as {@link #pow(long[], long[], long[])}, optionally computing chunks of the batch in
+     * parallel on the common fork-join pool.
+     *
+     * @param bases the bases, any values
+     * @param exps the exponents, same length as {@code bases}
+     * @param out receives the results; must be at least as long as {@code bases}
+     * @param parallel whether to split the batch across threads
+     * @throws IllegalArgumentException if an array is null or the lengths do not match
+     * @throws ArithmeticException if an exponent is negative
+     */
+    public void pow(long[] bases, long[] exps, long[] out, boolean parallel) {
+        if (bases == null || exps == null || bases.length != exps.length) {
+            throw new IllegalArgumentException("Base and exponent arrays must be non-null and of equal length.");
+        }
+        if (out == null || out.length < bases.length) {
+            throw new IllegalArgumentException("Output array is too small.");
+        }
+        if (!parallel) {
+            powRange(bases, exps, out, 0, bases.length);
+            return;
+        }
+        int chunks = (bases.length + BATCH_CHUNK - 1) / BATCH_CHUNK;
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                powRange(bases, exps, out, c * BATCH_CHUNK, Math.min(bases.length, (c + 1) * BATCH_CHUNK)));
+    }
+
+    /**
+     * Computes (a * b) mod m without overflow.
+     *
+     * @param a the first factor, any value
+     * @param b the second factor, any value
+     * @return (a * b) mod m, in [0, mod)
+     */
+    public long multiply(long a, long b) {
+        long x = Math.floorMod(a, mod);
+        long y = Math.floorMod(b, mod);
+        // toMontgomery(x) * y / R = x * y (mod odd)
+        long oddResult = montgomeryMultiply(toMontgomery(x % odd), y % odd);
+        return combine(oddResult, (x * y) & evenMask);
+    }
+
+    // 1 in Montgomery form
+    long montgomeryOne() {
+        return rModOdd;
+    }
+
+    // The odd-modulus residue of any base, in Montgomery form
+    long toMontgomeryBase(long base) {
+        return toMontgomery(Math.floorMod(base, mod) % odd);
+    }
+
+    // Joins base^exp mod odd, given in Montgomery form, with base^exp mod 2^twos
+    long finishPow(long oddMontgomery, long base, long exp) {
+        long evenResult = powEven(Math.floorMod(base, mod) & evenMask, exp);
+        return combine(fromMontgomery(oddMontgomery), evenResult);
+    }
+
+    // (x^exp) in Montgomery form, for x already in Montgomery form
+    long powMontgomery(long x, long exp) {
+        long result = rModOdd;
+        while (exp > 0) {
+            if ((exp & 1) == 1) {
+                result = montgomeryMultiply(result, x);
+            }
+            x = montgomeryMultiply(x, x);
+            exp >>= 1;
+        }
+        return result;
+    }
+
+    private void powRange(long[] bases, long[] exps, long[] out, int from, int to) {
+        int i = from;
+        for (; i + LANES <= to; i += LANES) {
+            powLanes(bases, exps, out, i);
+        }
+        for (; i < to; i++) {
+            out[i] = pow(bases[i], exps[i]);
+        }
+    }
+
+    // Four exponentiations in lock step; a clear bit multiplies by the Montgomery one
+    private void powLanes(long[] bases, long[] exps, long[] out, int i) {
+        long e0 = exps[i];
+        long e1 = exps[i + 1];
+        long e2 = exps[i + 2];
+        long e3 = exps[i + 3];
+        if ((e0 | e1 | e2 | e3) < 0) {
+            throw new ArithmeticException("Negative exponent is not supported.");
+        }
+        long b0 = Math.floorMod(bases[i], mod);
+        long b1 = Math.floorMod(bases[i + 1], mod);
+        long b2 = Math.floorMod(bases[i + 2], mod);
+        long b3 = Math.floorMod(bases[i + 3], mod);
+        long x0 = toMontgomery(b0 % odd);
+        long x1 = toMontgomery(b1 % odd);
+        long x2 = toMontgomery(b2 % odd);
+        long x3 = toMontgomery(b3 % odd);
+        long r0 = rModOdd;
+        long r1 = rModOdd;
+        long r2 = rModOdd;
+        long r3 = rModOdd;
+        for (long e = e0 | e1 | e2 | e3; e != 0; e >>>= 1) {
+            r0 = montgomeryMultiply(r0, (e0 & 1) != 0 ? x0 : rModOdd);
+            r1 = montgomeryMultiply(r1, (e1 & 1) != 0 ? x1 : rModOdd);
+            r2 = montgomeryMultiply(r2, (e2 & 1) != 0 ? x2 : rModOdd);
+            r3 = montgomeryMultiply(r3, (e3 & 1) != 0 ? x3 : rModOdd);
+            x0 = montgomeryMultiply(x0, x0);
+            x1 = montgomeryMultiply(x1, x1);
+            x2 = montgomeryMultiply(x2, x2);
+            x3 = montgomeryMultiply(x3, x3);
+            e0 >>>= 1;
+            e1 >>>= 1;
+            e2 >>>= 1;
+            e3 >>>= 1;
+        }
+        out[i] = combine(fromMontgomery(r0), powEven(b0 & evenMask, exps[i]));
+        out[i + 1] = combine(fromMontgomery(r1), powEven(b1 & evenMask, exps[i + 1]));
+        out[i + 2] = combine(fromMontgomery(r2), powEven(b2 & evenMask, exps[i + 2]));
+        out[i + 3] = combine(fromMontgomery(r3), powEven(b3 & evenMask, exps[i + 3]));
+    }
+
+    private long powEven(long x, long exp) {
+        long result = 1;
+        while (exp > 0 && x != 0) {
+            if ((exp & 1) == 1) {
+                result = result * x;
+            }
+            x = x * x & evenMask;
+            exp >>= 1;
+        }
+        return (exp > 0 ? 0 : result) & evenMask;
+    }
+
+    // The unique value in [0, mod) congruent to oddResult mod odd and evenResult mod 2^twos
+    long combine(long oddResult, long evenResult) {
+        long t = (evenResult - oddResult) * oddInvModEven & evenMask;
+        return oddResult + odd * t;
+    }
+
+    // a * R mod odd, for a in [0, odd)
+    long toMontgomery(long a) {
+        return montgomeryMultiply(a, r2ModOdd);
+    }
+
+    // a / R mod odd, for a in Montgomery form
+    long fromMontgomery(long a) {
+        return reduce(0, a);
+    }
+
+    // a * b / R mod odd, for a and b in [0, odd)
+    long montgomeryMultiply(long a, long b) {
+        return reduce(Math.unsignedMultiplyHigh(a, b), a * b);
+    }
+
+    // Montgomery reduction of the 128-bit value hi * 2^64 + lo < odd * 2^64: returns it / R mod odd
+    private long reduce(long hi, long lo) {
+        long m = lo * oddNegInv;
+        // lo + low64(m * odd) is 0 mod 2^64 and carries exactly when lo is not 0
+        long t = hi + Math.unsignedMultiplyHigh(m, odd) + (lo != 0 ? 1 : 0);
+        return Long.compareUnsigned(t, odd) >= 0 ? t - odd : t;
+    }
+
+    // (a + b) mod odd for a, b in [0, odd); the sum cannot overflow 64 unsigned bits
+    private long addOdd(long a, long b) {
+        long sum = a + b;
+        return Long.compareUnsigned(sum, odd) >= 0 ? sum - odd : sum;
+    }
+}
@@ -3,6 +3,18 @@ package org.example;
  * Find the number of digits in a number.
  */
 public final class NumberOfDigits {
+    // INT_THRESHOLDS[k] is 10^k for k >= 1; 0 at index 0 makes every magnitude count at least one digit
+    private static final int[] INT_THRESHOLDS = {
+        0, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
+    // Same for long; the last entry is 10^19, which only fits as an unsigned value
+    private static final long[] LONG_THRESHOLDS = {
+        0L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+        10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L,
+        Long.parseUnsignedLong("10000000000000000000")
+    };
+
     private NumberOfDigits() {
     }
     /**
@@ -27,7 +39,7 @@ public final class NumberOfDigits {
      * @return number of digits of given number
      */
     public static int numberOfDigitsFast(int number) {
-        return number == 0 ? 1 : (int) Math.floor(Math.log10(Math.abs(number)) + 1);
+        return number == 0 ? 1 : (int) Math.floor(Math.log10(Math.abs((long) number)) + 1);
     }
 
     /**
@@ -37,7 +49,7 @@ public final class NumberOfDigits {
      * @return number of digits of given number
      */
     public static int numberOfDigitsFaster(int number) {
-        return number < 0 ? (-number + "").length() : (number + "").length();
+        return number < 0 ? (number + "").length() - 1 : (number + "").length();
     }
 
     /**
@@ -49,4 +61,39 @@ public final class NumberOfDigits {
     public static int numberOfDigitsRecursion(int number) {
         return number / 10 == 0 ? 1 : 1 + numberOfDigitsRecursion(number / 10);
     }
-}
+
+    /**
+     * Find the number of digits in a number without division, allocation or loops.
+     *
+     * <p>The bit length of |number| gives an estimate of the digit count that is either exact or
+     * one too low ({@code bits * 1233 >>> 12} approximates {@code bits * log10(2)}); a single
+     * comparison against a power of ten settles which. The magnitude is handled as an unsigned
+     * value, so {@link Integer#MIN_VALUE} is counted correctly.
+     *
+     * @param number number to find
+     * @return number of digits of given number
+     */
+    public static int numberOfDigitsLookup(int number) {
+        int sign = number >> 31;
+        long magnitude = ((number ^ sign) - sign) & 0xFFFF_FFFFL; // |number|, exact even for MIN_VALUE
+        int guess = (64 - Long.numberOfLeadingZeros(magnitude | 1)) * 1233 >>> 12;
+        // Adds 1 when magnitude >= INT_THRESHOLDS[guess]
+        return guess + (int) ((INT_THRESHOLDS[guess] - magnitude - 1) >>> 63);
+    }
+
+    /**
+     * Find the number of digits in a long number without division, allocation or loops.
+     *
+     * <p>Works like {@link #numberOfDigitsLookup(int)}; the magnitude and the largest power of ten
+     * are compared as unsigned values, so {@link Long#MIN_VALUE} is counted correctly.
+     *
+     * @param number number to find
+     * @return number of digits of given number
+     */
+    public static int numberOfDigitsLookup(long number) {
+        long sign = number >> 63;
+        long magnitude = (number ^ sign) - sign; // |number| as an unsigned value
+        int guess = (64 - Long.numberOfLeadingZeros(magnitude | 1)) * 1233 >>> 12;
+        return guess + (Long.compareUnsigned(magnitude, LONG_THRESHOLDS[guess]) >= 0 ? 1 : 0);
+    }
+}
\ No newline at end of file
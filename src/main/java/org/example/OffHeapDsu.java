@@ -0,0 +1,188 @@
+package org.example;
+
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dsu whose parent and size arrays live in a memory-mapped file instead of on the heap.
+ *
+ * <p>The file starts with a small header (magic, element count, set count) followed by the
+ * parent array and then the size array, as native-order ints. Every update goes straight to
+ * the mapping, so {@link #flush()} followed by {@link #open(Path)} continues a partially built
+ * structure without replaying the unions. Paths are shortened with path halving, which needs a
+ * single pass and writes fewer pages than full compression.
+ */
+public class OffHeapDsu implements AutoCloseable {
+    private static final int MAGIC = 0x44535531; // "DSU1"
+    private static final int HEADER_BYTES = 16;
+    private static final int COUNT_OFFSET = 8;
+    private static final int CHUNK_SHIFT = 28; // 2^28 ints (1 GiB) per mapping, below the 2 GiB buffer limit
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> mappings = new ArrayList<>();
+    private final MappedByteBuffer header;
+    private final IntBuffer[] parent; // Parent array, split into mapped chunks
+    private final IntBuffer[] size;   // Size array for union by size optimization
+    private final int n;
+    private int count;                // Number of disjoint sets, mirrored into the header
+
+    private OffHeapDsu(FileChannel channel, int n) throws IOException {
+        this.channel = channel;
+        this.n = n;
+        this.header = map(0, HEADER_BYTES);
+        this.parent = mapInts(HEADER_BYTES, n);
+        this.size = mapInts(HEADER_BYTES + 4L * n, n);
+    }
+
+    // Creates (or overwrites) `file` with `n` singleton sets
+    public static OffHeapDsu create(Path file, int n) throws IOException {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements cannot be negative.");
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            OffHeapDsu dsu = new OffHeapDsu(channel, n);
+            for (int i = 0; i < n; i++) {
+                set(dsu.parent, i, i);
+                set(dsu.size, i, 1);
+            }
+            dsu.header.putInt(0, MAGIC);
+            dsu.header.putInt(4, n);
+            dsu.setCount(n); // Initially, every element is its own set
+            return dsu;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Reopens a structure previously written by `create`, keeping every union applied so far
+    public static OffHeapDsu open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a Dsu file: " + file);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(ByteOrder.nativeOrder());
+            int n = header.getInt(4);
+            if (header.getInt(0) != MAGIC || n < 0 || channel.size() != HEADER_BYTES + 8L * n) {
+                throw new IOException("Not a Dsu file: " + file);
+            }
+            OffHeapDsu dsu = new OffHeapDsu(channel, n);
+            dsu.count = header.getInt(COUNT_OFFSET);
+            return dsu;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private MappedByteBuffer map(long offset, long bytes) throws IOException {
+        MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, offset, bytes);
+        mapping.order(ByteOrder.nativeOrder());
+        mappings.add(mapping);
+        return mapping;
+    }
+
+    private IntBuffer[] mapInts(long offset, int length) throws IOException {
+        IntBuffer[] chunks = new IntBuffer[(int) ((length + (long) CHUNK_MASK) >>> CHUNK_SHIFT)];
+        for (int c = 0; c < chunks.length; c++) {
+            long first = (long) c << CHUNK_SHIFT;
+            long ints = Math.min(1L << CHUNK_SHIFT, length - first);
+            chunks[c] = map(offset + 4 * first, 4 * ints).asIntBuffer();
+        }
+        return chunks;
+    }
+
+    private static int get(IntBuffer[] array, int i) {
+        return array[i >>> CHUNK_SHIFT].get(i & CHUNK_MASK);
+    }
+
+    private static void set(IntBuffer[] array, int i, int value) {
+        array[i >>> CHUNK_SHIFT].put(i & CHUNK_MASK, value);
+    }
+
+    private void setCount(int value) {
+        count = value;
+        header.putInt(COUNT_OFFSET, value);
+    }
+
+    // Finds the representative (root) of the set that contains `i`
+    public int find(int i) {
+        if (i < 0 || i >= n) {
+            throw new IllegalArgumentException("Index out of bounds.");
+        }
+        int p = get(parent, i);
+        while (p != i) {
+            // Path halving: point `i` at its grandparent and continue from there
+            int grandparent = get(parent, p);
+            set(parent, i, grandparent);
+            i = grandparent;
+            p = get(parent, i);
+        }
+        return i;
+    }
+
+    // Unites the sets that include `i` and `j`
+    public void union(int i, int j) {
+        int rootI = find(i);
+        int rootJ = find(j);
+
+        // If already in the same set, no need to unite
+        if (rootI == rootJ) return;
+
+        // Merge smaller tree under larger tree
+        int sizeI = get(size, rootI);
+        int sizeJ = get(size, rootJ);
+        if (sizeI < sizeJ) {
+            set(parent, rootI, rootJ);
+            set(size, rootJ, sizeI + sizeJ);
+        } else {
+            set(parent, rootJ, rootI);
+            set(size, rootI, sizeI + sizeJ);
+        }
+
+        // Decrement the count of disjoint sets
+        setCount(count - 1);
+    }
+
+    // Checks if elements `i` and `j` are in the same set
+    public boolean connected(int i, int j) {
+        return find(i) == find(j);
+    }
+
+    // Returns the size of the set containing `i`
+    public int getSetSize(int i) {
+        return get(size, find(i));
+    }
+
+    // Returns the current number of disjoint sets
+    public int getSetCount() {
+        return count;
+    }
+
+    // Forces every change made so far to the underlying file
+    public void flush() {
+        for (MappedByteBuffer mapping : mappings) {
+            mapping.force();
+        }
+    }
+
+    // Flushes and closes the file; the mappings themselves are released by the garbage collector
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+}
@@ -0,0 +1,151 @@
+package org.example;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel Borůvka MST with the same inputs and outputs as {@link KruskalMST}.
+ *
+ * <p>Each round, every edge offers itself to the components of both endpoints and each component
+ * keeps its cheapest offer through an atomic minimum; the chosen edges are then merged with a
+ * {@link ConcurrentDsu}. The number of components at least halves per round, so there are at most
+ * log2(V) rounds, and each round is parallel over the remaining edges.
+ *
+ * <p>Edges are ranked by (weight, insertion index), the same total order {@code KruskalMST}
+ * uses, so both produce the identical tree, not just the same weight.
+ */
+public class ParallelMST implements EdgeSink {
+    private static final long NO_EDGE = Long.MAX_VALUE;
+
+    private final EdgeStore edges;
+    private final int vertices;
+    private final int parallelism;
+
+    public ParallelMST(int vertices) {
+        this(vertices, ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    public ParallelMST(int vertices, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        this.vertices = vertices;
+        this.parallelism = parallelism;
+        this.edges = new EdgeStore();
+    }
+
+    @Override
+    public void ensureCapacity(int edges) {
+        this.edges.ensureCapacity(edges);
+    }
+
+    @Override
+    public void addEdge(int src, int dest, int weight) {
+        edges.add(src, dest, weight);
+    }
+
+    // Throws ArithmeticException if the total does not fit in an int; see findMSTWeightExact
+    public int findMSTWeight() {
+        return Math.toIntExact(findMSTWeightExact());
+    }
+
+    // Exact MST weight: at most V - 1 int weights, so the sum always fits in a long
+    public long findMSTWeightExact() {
+        long mstWeight = 0;
+        for (int e : findMSTEdgeIndices()) {
+            mstWeight += edges.weight(e);
+        }
+        return mstWeight;
+    }
+
+    // Returns the MST edges in Kruskal's selection order (by weight, then insertion order)
+    public List<KruskalMST.Edge> getMSTEdges() {
+        int[] mst = findMSTEdgeIndices();
+        List<KruskalMST.Edge> mstEdges = new ArrayList<>(mst.length);
+        for (int e : mst) {
+            mstEdges.add(new KruskalMST.Edge(edges.src(e), edges.dest(e), edges.weight(e)));
+        }
+        return mstEdges;
+    }
+
+    private int[] findMSTEdgeIndices() {
+        int[] chosen = new int[Math.max(0, vertices - 1)];
+        AtomicInteger chosenCount = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> runBoruvka(chosen, chosenCount)).join();
+        } finally {
+            pool.shutdown();
+        }
+
+        // Check if we found a valid MST
+        if (chosenCount.get() != vertices - 1) {
+            throw new IllegalStateException("No valid MST exists - graph is not connected");
+        }
+
+        // Report edges in Kruskal's order
+        long[] keys = new long[chosen.length];
+        for (int k = 0; k < chosen.length; k++) {
+            keys[k] = key(chosen[k]);
+        }
+        Arrays.sort(keys);
+        for (int k = 0; k < chosen.length; k++) {
+            chosen[k] = (int) keys[k];
+        }
+        return chosen;
+    }
+
+    // Runs inside the pool, so every parallel stream below uses `parallelism` workers
+    private void runBoruvka(int[] chosen, AtomicInteger chosenCount) {
+        ConcurrentDsu dsu = new ConcurrentDsu(vertices);
+        AtomicLongArray cheapest = new AtomicLongArray(vertices);
+        int[] live = IntStream.range(0, edges.size()).toArray();
+
+        while (live.length > 0 && chosenCount.get() < chosen.length) {
+            IntStream.range(0, vertices).parallel().forEach(v -> cheapest.set(v, NO_EDGE));
+
+            // Every edge between two components offers itself to both of them
+            live = Arrays.stream(live).parallel().filter(e -> {
+                int rootSrc = dsu.find(edges.src(e));
+                int rootDest = dsu.find(edges.dest(e));
+                if (rootSrc == rootDest) {
+                    return false; // Internal to a component, never useful again
+                }
+                long key = key(e);
+                offer(cheapest, rootSrc, key);
+                offer(cheapest, rootDest, key);
+                return true;
+            }).toArray();
+
+            // The cheapest edges of all components form a forest; an edge picked by both of its
+            // components only merges once, so `link` reports each tree edge exactly once
+            IntStream.range(0, vertices).parallel().forEach(v -> {
+                long key = cheapest.get(v);
+                if (key != NO_EDGE) {
+                    int e = (int) key;
+                    if (dsu.link(edges.src(e), edges.dest(e))) {
+                        chosen[chosenCount.getAndIncrement()] = e;
+                    }
+                }
+            });
+        }
+    }
+
+    private static void offer(AtomicLongArray cheapest, int root, long key) {
+        long current = cheapest.get(root);
+        while (key < current && !cheapest.compareAndSet(root, current, key)) {
+            current = cheapest.get(root);
+        }
+    }
+
+    // Packs (weight, index) so that comparing keys ranks edges like KruskalMST
+    private long key(int e) {
+        return ((long) edges.weight(e) << 32) | e;
+    }
+}
@@ -1,20 +1,103 @@
 package org.example;
 
 public final class PerfectCube {
+    // Bit r is set when r is a cube modulo 64 (resp. 63). A cube must pass both, which rejects
+    // about 92% of non-cubes with a mask and a remainder before any root is taken.
+    private static final long CUBES_MOD_64 = cubeResidues(64);
+    private static final long CUBES_MOD_63 = cubeResidues(63);
+
     private PerfectCube() {
     }
 
     /**
      * Check if a number is perfect cube or not
      *
+     * Uses the exact integer cube root rather than {@code Math.pow(number, 1.0 / 3)}, whose
+     * rounding misses cubes such as 1000 (the root comes out as 9.999...). Most non-cubes are
+     * rejected by their residues modulo 64 and 63 before the root is taken.
+     *
      * @param number number to check
      * @return {@code true} if {@code number} is perfect cube, otherwise
      * {@code false}
      */
     public static boolean isPerfectCube(int number) {
-        number = Math.abs(number); // converting negative number to positive number
-        int a = (int) Math.pow(number, 1.0 / 3);
-        return a * a * a == number;
+        long magnitude = Math.abs((long) number); // exact even for Integer.MIN_VALUE
+        if (!passesResidueFilter(magnitude)) {
+            return false;
+        }
+        long root = cubeRootOfMagnitude(magnitude);
+        return root * root * root == magnitude;
+    }
+
+    /**
+     * Check if a long number is perfect cube or not, using the exact integer cube root
+     *
+     * @param number number to check
+     * @return {@code true} if {@code number} is perfect cube, otherwise
+     * {@code false}
+     */
+    public static boolean isPerfectCube(long number) {
+        // |Long.MIN_VALUE| = 2^63 only exists as an unsigned value, and 2^63 = (2^21)^3 wraps to
+        // the same bits, so the comparison below stays exact
+        long magnitude = number < 0 ? -number : number;
+        if (!passesResidueFilter(magnitude)) {
+            return false;
+        }
+        long root = cubeRootOfMagnitude(magnitude);
+        return root * root * root == magnitude;
+    }
+
+    /**
+     * Exact integer cube root, rounded toward zero: the largest r with r^3 <= |number|, carrying
+     * the sign of {@code number}
+     *
+     * @param number number to take the cube root of
+     * @return the integer cube root of {@code number}
+     */
+    public static int cubeRoot(int number) {
+        int root = (int) cubeRootOfMagnitude(Math.abs((long) number));
+        return number < 0 ? -root : root;
+    }
+
+    /**
+     * Exact integer cube root of a long, rounded toward zero: the largest r with
+     * r^3 <= |number|, carrying the sign of {@code number}
+     *
+     * @param number number to take the cube root of
+     * @return the integer cube root of {@code number}
+     */
+    public static long cubeRoot(long number) {
+        long root = cubeRootOfMagnitude(number < 0 ? -number : number);
+        return number < 0 ? -root : root;
+    }
+
+    // Whether an unsigned magnitude can be a cube judging by its residues modulo 64 and 63
+    private static boolean passesResidueFilter(long magnitude) {
+        // A long shift only uses the low 6 bits of its distance, i.e. magnitude mod 64
+        return (CUBES_MOD_64 >>> magnitude & 1) != 0
+                && (CUBES_MOD_63 >>> Long.remainderUnsigned(magnitude, 63) & 1) != 0;
+    }
+
+    private static long cubeResidues(int modulus) {
+        long mask = 0;
+        for (long r = 0; r < modulus; r++) {
+            mask |= 1L << (r * r * r % modulus);
+        }
+        return mask;
+    }
+
+    // Floor cube root of an unsigned magnitude of at most 2^63. Math.cbrt is within an ulp of the
+    // true root, and the root is at most 2^21, so the truncated estimate is off by at most one;
+    // exact integer cubes then settle it. Cubes up to (2^21 + 1)^3 stay below 2^64, so unsigned
+    // comparisons of the wrapped products are exact.
+    private static long cubeRootOfMagnitude(long x) {
+        long root = (long) Math.cbrt(x < 0 ? 0x1p63 : x);
+        if (Long.compareUnsigned(root * root * root, x) > 0) {
+            root--;
+        } else if (Long.compareUnsigned((root + 1) * (root + 1) * (root + 1), x) <= 0) {
+            root++;
+        }
+        return root;
     }
 
     /**
@@ -0,0 +1,198 @@
+package org.example;
+
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk detection of perfect k-th powers (values r^k for an integer r) over int arrays and ranges.
+ *
+ * <p>Array classification rejects most values with residue prefilters before any root is taken:
+ * a k-th power can only leave a k-th power residue modulo every m. For each k, the k-th power
+ * residues modulo 64, 63, 37 and 13 are packed into one {@code long} mask per modulus, so a test
+ * is a remainder by a constant and a shift, and the masks are combined without branching. On
+ * uniformly random magnitudes about 1 value in 76 survives for squares and 1 in 90 for cubes;
+ * exponents coprime to 6 are filtered far less, since x^k then permutes most residues. Only
+ * survivors pay for an exact integer root ({@link Math#sqrt}, {@link PerfectCube#cubeRoot(long)},
+ * or a rounded {@link Math#pow} confirmed by exact multiplication for larger k).
+ *
+ * <p>Range classification needs no filtering at all: it enumerates the roots whose k-th powers
+ * fall in the range.
+ *
+ * <p>A negative value is a perfect k-th power when k is odd and its magnitude is a perfect k-th
+ * power (-8 is -2 cubed); 0 and 1 are perfect powers for every k.
+ */
+public final class PerfectPowers {
+    static final int PARALLEL_CHUNK = 1 << 16; // Values classified per task; a multiple of 64
+
+    // Filters for k = 2..33, built once. No magnitude of 2 up to 2^31 is a k-th power for k >= 32,
+    // so a larger k gives the same answers as the cached filter of its parity
+    private static final Prefilter[] FILTERS = IntStream.range(0, 34)
+            .mapToObj(k -> k < 2 ? null : new Prefilter(k))
+            .toArray(Prefilter[]::new);
+
+    private PerfectPowers() {
+    }
+
+    /**
+     * Check if a number is a perfect k-th power
+     *
+     * @param number number to check
+     * @param k the exponent, at least 2
+     * @return {@code true} if {@code number} is r^k for some integer r
+     * @throws IllegalArgumentException if k is below 2
+     */
+    public static boolean isPerfectPower(int number, int k) {
+        return filter(k).test(number);
+    }
+
+    /**
+     * Marks the perfect k-th powers in an array.
+     *
+     * @param values the values to classify
+     * @param k the exponent, at least 2
+     * @return a set with bit i set when {@code values[i]} is a perfect k-th power
+     * @throws IllegalArgumentException if k is below 2
+     */
+    public static BitSet classify(int[] values, int k) {
+        return classify(values, k, false);
+    }
+
+    /**
+     * Marks the perfect k-th powers in an array, optionally classifying chunks of it in parallel.
+     *
+     * @param values the values to classify
+     * @param k the exponent, at least 2
+     * @param parallel whether to classify chunks of the array in parallel
+     * @return a set with bit i set when {@code values[i]} is a perfect k-th power
+     * @throws IllegalArgumentException if k is below 2
+     */
+    public static BitSet classify(int[] values, int k, boolean parallel) {
+        Prefilter filter = filter(k);
+        // Chunks cover whole words, so tasks never write to the same element
+        long[] words = new long[(values.length + 63) >>> 6];
+        if (!parallel) {
+            classifyRange(values, filter, words, 0, values.length);
+        } else {
+            int chunks = (values.length + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+            IntStream.range(0, chunks).parallel().forEach(c -> classifyRange(values, filter, words,
+                    c * PARALLEL_CHUNK, Math.min(values.length, (c + 1) * PARALLEL_CHUNK)));
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Marks the perfect k-th powers in the range [lo, hi).
+     *
+     * @param lo the first value of the range
+     * @param hi one past the last value of the range
+     * @param k the exponent, at least 2
+     * @return a set with bit i set when {@code lo + i} is a perfect k-th power
+     * @throws IllegalArgumentException if k is below 2, lo is greater than hi, or the range holds
+     *         more than {@link Integer#MAX_VALUE} values
+     */
+    public static BitSet classify(int lo, int hi, int k) {
+        checkExponent(k);
+        if (lo > hi || (long) hi - lo > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Range must satisfy lo <= hi with at most 2^31 - 1 values.");
+        }
+        BitSet powers = new BitSet(hi - lo);
+        // r^k for r = 0, 1, 2, ... while it can still land in the range; odd k adds -(r^k)
+        long cap = Math.max(Math.abs((long) lo), Math.abs((long) hi));
+        for (long r = 0, power = 0; power >= 0; power = power(++r, k, cap)) {
+            if (power >= lo && power < hi) {
+                powers.set((int) (power - lo));
+            }
+            if ((k & 1) == 1 && -power >= lo && -power < hi) {
+                powers.set((int) (-power - lo));
+            }
+        }
+        return powers;
+    }
+
+    private static void classifyRange(int[] values, Prefilter filter, long[] words, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (filter.test(values[i])) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    // r^k, or -1 once it exceeds cap; cap is at most 2^31, so no intermediate overflows. A base
+    // of 0 or 1 is its own power, and any larger base passes 2^31 within 32 steps, so a huge k
+    // never runs k iterations
+    private static long power(long r, int k, long cap) {
+        if (r <= 1) {
+            return r;
+        }
+        long result = 1;
+        for (int i = 0; i < k; i++) {
+            result *= r;
+            if (result > cap) {
+                return -1;
+            }
+        }
+        return result;
+    }
+
+    private static Prefilter filter(int k) {
+        checkExponent(k);
+        return FILTERS[k < FILTERS.length ? k : FILTERS.length - 2 + (k & 1)];
+    }
+
+    private static void checkExponent(int k) {
+        if (k < 2) {
+            throw new IllegalArgumentException("Exponent must be at least 2.");
+        }
+    }
+
+    // Residue masks for one exponent followed by an exact root check. Bit r of a mask is set when
+    // r is a k-th power modulo that mask's modulus; every modulus is a constant of at most 64, so each
+    // step is a remainder by a constant (a multiply, no division) and a shift.
+    private static final class Prefilter {
+        private final int k;
+        private final long mod64;
+        private final long mod63;
+        private final long mod37;
+        private final long mod13;
+
+        Prefilter(int k) {
+            this.k = k;
+            this.mod64 = residues(64, k);
+            this.mod63 = residues(63, k);
+            this.mod37 = residues(37, k);
+            this.mod13 = residues(13, k);
+        }
+
+        private static long residues(int modulus, int k) {
+            long mask = 0;
+            for (int x = 0; x < modulus; x++) {
+                mask |= 1L << FastExponentiation.fastExponentiation(x, k, modulus);
+            }
+            return mask;
+        }
+
+        boolean test(int number) {
+            if (number == Integer.MIN_VALUE) {
+                return isExactPower(1L << 31); // The one magnitude an int cannot hold
+            }
+            int magnitude = Math.abs(number);
+            // Bit 0 of sign is clear only for a negative number and an even k. An int remainder by
+            // a constant compiles to a multiply, and an int shift of a long uses the low 6 bits of
+            // its distance, i.e. magnitude mod 64. Combining the masks without branching leaves a
+            // single, rarely taken branch per value.
+            long sign = k | ~number >>> 31;
+            long bits = sign & mod64 >>> magnitude & mod63 >>> magnitude % 63
+                    & mod37 >>> magnitude % 37 & mod13 >>> magnitude % 13;
+            return (bits & 1) != 0 && isExactPower(magnitude);
+        }
+
+        private boolean isExactPower(long magnitude) {
+            long root = switch (k) {
+                case 2 -> (long) Math.sqrt(magnitude);
+                case 3 -> PerfectCube.cubeRoot(magnitude);
+                default -> Math.round(Math.pow(magnitude, 1.0 / k));
+            };
+            return power(root, k, magnitude) == magnitude;
+        }
+    }
+}
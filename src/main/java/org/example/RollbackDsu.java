@@ -0,0 +1,102 @@
+package org.example;
+
+
+import java.util.Arrays;
+
+// Dsu whose unions can be undone: union by size without path compression, so every union
+// changes exactly one parent pointer and one size entry, and undoing it costs O(1).
+// Finds take O(log n) since union by size alone bounds the tree height.
+public class RollbackDsu {
+    private final int[] parent; // Parent array
+    private final int[] size;   // Size array for union by size optimization
+    private int count;          // Number of disjoint sets
+    private int[] history;      // Roots linked by each union that merged two sets, oldest first
+    private int historySize;
+
+    // Constructor to initialize the data structure
+    public RollbackDsu(int n) {
+        this.parent = new int[n];
+        this.size = new int[n];
+        this.count = n; // Initially, every element is its own set
+        this.history = new int[16];
+
+        // Initialize Parent array
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+
+        // Initialize Size array with 1s
+        Arrays.fill(size, 1);
+    }
+
+    // Finds the representative (root) of the set that contains `i`
+    public int find(int i) {
+        if (i < 0 || i >= parent.length) {
+            throw new IllegalArgumentException("Index out of bounds.");
+        }
+        while (parent[i] != i) {
+            i = parent[i];
+        }
+        return i;
+    }
+
+    // Unites the sets that include `i` and `j`
+    public void union(int i, int j) {
+        int rootI = find(i);
+        int rootJ = find(j);
+
+        // If already in the same set, no need to unite
+        if (rootI == rootJ) return;
+
+        // Merge smaller tree under larger tree
+        if (size[rootI] < size[rootJ]) {
+            int swap = rootI;
+            rootI = rootJ;
+            rootJ = swap;
+        }
+        parent[rootJ] = rootI;
+        size[rootI] += size[rootJ];
+
+        // Decrement the count of disjoint sets
+        count--;
+
+        // Remember the linked root so the union can be undone
+        if (historySize == history.length) {
+            history = Arrays.copyOf(history, historySize * 2);
+        }
+        history[historySize++] = rootJ;
+    }
+
+    // Returns a token for the current state; pass it to `rollback` to return to this state
+    public int snapshot() {
+        return historySize;
+    }
+
+    // Undoes every union made since `snapshot` returned `token`, most recent first
+    public void rollback(int token) {
+        if (token < 0 || token > historySize) {
+            throw new IllegalArgumentException("Invalid snapshot token.");
+        }
+        while (historySize > token) {
+            int child = history[--historySize];
+            size[parent[child]] -= size[child];
+            parent[child] = child;
+            count++;
+        }
+    }
+
+    // Checks if elements `i` and `j` are in the same set
+    public boolean connected(int i, int j) {
+        return find(i) == find(j);
+    }
+
+    // Returns the size of the set containing `i`
+    public int getSetSize(int i) {
+        return size[find(i)];
+    }
+
+    // Returns the current number of disjoint sets
+    public int getSetCount() {
+        return count;
+    }
+}
@@ -0,0 +1,57 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+
+public class BigFactorialTest {
+
+    @Test
+    void testMatchesNaiveProduct() {
+        BigInteger expected = BigInteger.ONE;
+        for (int n = 0; n <= 3000; n++) {
+            if (n > 0) {
+                expected = expected.multiply(BigInteger.valueOf(n));
+            }
+            assertEquals(expected, BigFactorial.factorial(n), "n = " + n);
+        }
+    }
+
+    @Test
+    void testSmallValuesMatchFactorial() {
+        for (int n = 0; n <= 20; n++) {
+            assertEquals(BigInteger.valueOf(Factorial.factorial(n)), BigFactorial.factorial(n));
+            assertEquals(BigInteger.valueOf(Factorial.factorial(n)), BigFactorial.factorial(n, true));
+        }
+    }
+
+    @Test
+    void testLargeFactorial() {
+        int n = 100_000;
+        BigInteger serial = BigFactorial.factorial(n);
+        assertEquals(BigFactorial.factorial(n, true), serial);
+        // 100000! has 456574 digits and 24999 trailing zeros
+        String digits = serial.toString();
+        assertEquals(456_574, digits.length());
+        assertEquals(24_999, countTrailingDecimalZeros(n));
+        assertEquals(24_999, digits.length() - digits.replaceAll("0+$", "").length());
+        // n! / (n-1)! == n
+        assertEquals(BigInteger.valueOf(n), serial.divide(BigFactorial.factorial(n - 1)));
+    }
+
+    // Legendre's formula for the power of 5 in n!
+    private static int countTrailingDecimalZeros(int n) {
+        int zeros = 0;
+        for (int power = 5; power <= n; power *= 5) {
+            zeros += n / power;
+        }
+        return zeros;
+    }
+
+    @Test
+    void testNegativeInputThrows() {
+        assertThrows(IllegalArgumentException.class, () -> BigFactorial.factorial(-1));
+        assertThrows(IllegalArgumentException.class, () -> BigFactorial.factorial(-1, true));
+    }
+}
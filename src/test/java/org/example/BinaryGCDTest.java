@@ -0,0 +1,98 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+public class BinaryGCDTest {
+
+    @Test
+    void testIntMatchesEuclid() {
+        assertEquals(0, BinaryGCD.gcd(0, 0));
+        assertEquals(7, BinaryGCD.gcd(0, 7));
+        assertEquals(7, BinaryGCD.gcd(7, 0));
+        assertEquals(Integer.MAX_VALUE, BinaryGCD.gcd(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertEquals(1 << 30, BinaryGCD.gcd(1 << 30, 0));
+        assertEquals(1 << 20, BinaryGCD.gcd(1 << 30, 3 << 20));
+        Random random = new Random(3);
+        for (int i = 0; i < 100_000; i++) {
+            int factor = 1 << random.nextInt(8);
+            int a = (random.nextInt() >>> 1) / factor * factor;
+            int b = ((random.nextInt() >>> 1) >> random.nextInt(31)) / factor * factor;
+            assertEquals(GCD.gcd(a, b), BinaryGCD.gcd(a, b), a + ", " + b);
+        }
+    }
+
+    @Test
+    void testLongMatchesBigInteger() {
+        assertEquals(0L, BinaryGCD.gcd(0L, 0L));
+        assertEquals(Long.MAX_VALUE, BinaryGCD.gcd(Long.MAX_VALUE, 0L));
+        assertEquals(1L << 62, BinaryGCD.gcd(1L << 62, 0L));
+        assertEquals(1L, BinaryGCD.gcd(Long.MAX_VALUE, Long.MAX_VALUE - 1));
+        Random random = new Random(5);
+        for (int i = 0; i < 100_000; i++) {
+            long factor = random.nextLong() >>> (33 + random.nextInt(31));
+            long a = (random.nextLong() >>> (1 + random.nextInt(63))) / Math.max(factor, 1) * factor;
+            long b = (random.nextLong() >>> (1 + random.nextInt(63))) / Math.max(factor, 1) * factor;
+            long expected = BigInteger.valueOf(a).gcd(BigInteger.valueOf(b)).longValueExact();
+            assertEquals(expected, BinaryGCD.gcd(a, b), a + ", " + b);
+        }
+    }
+
+    @Test
+    void testBigIntegerMatchesJdk() {
+        assertEquals(BigInteger.ZERO, BinaryGCD.gcd(BigInteger.ZERO, BigInteger.ZERO));
+        assertEquals(BigInteger.TEN, BinaryGCD.gcd(BigInteger.ZERO, BigInteger.TEN));
+        Random random = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            BigInteger common = new BigInteger(random.nextInt(200), random);
+            BigInteger a = new BigInteger(random.nextInt(2_000), random).multiply(common);
+            BigInteger b = new BigInteger(random.nextInt(2_000), random).multiply(common);
+            assertEquals(a.gcd(b), BinaryGCD.gcd(a, b));
+            assertEquals(a.gcd(b), BinaryGCD.gcd(b, a));
+        }
+        // Consecutive Fibonacci numbers take the most steps
+        BigInteger previous = BigInteger.ZERO;
+        BigInteger current = BigInteger.ONE;
+        for (int i = 0; i < 3_000; i++) {
+            BigInteger next = previous.add(current);
+            previous = current;
+            current = next;
+        }
+        assertEquals(BigInteger.ONE, BinaryGCD.gcd(current, previous));
+        assertEquals(previous, BinaryGCD.gcd(previous.multiply(current), previous));
+    }
+
+    @Test
+    void testExtendedGcdCoefficients() {
+        assertEquals(new BinaryGCD.ExtendedGcd(0, 1, 0), BinaryGCD.extendedGcd(0, 0));
+        assertEquals(new BinaryGCD.ExtendedGcd(5, 0, 1), BinaryGCD.extendedGcd(0, 5));
+        assertEquals(new BinaryGCD.ExtendedGcd(2, -9, 47), BinaryGCD.extendedGcd(240, 46));
+        Random random = new Random(11);
+        for (int i = 0; i < 100_000; i++) {
+            long a = random.nextLong() >>> (1 + random.nextInt(63));
+            long b = random.nextLong() >>> (1 + random.nextInt(63));
+            BinaryGCD.ExtendedGcd result = BinaryGCD.extendedGcd(a, b);
+            BigInteger bigA = BigInteger.valueOf(a);
+            BigInteger bigB = BigInteger.valueOf(b);
+            assertEquals(bigA.gcd(bigB).longValueExact(), result.gcd());
+            BigInteger combination = bigA.multiply(BigInteger.valueOf(result.x()))
+                    .add(bigB.multiply(BigInteger.valueOf(result.y())));
+            assertEquals(BigInteger.valueOf(result.gcd()), combination, a + ", " + b);
+        }
+    }
+
+    @Test
+    void testNegativeInputsThrow() {
+        assertThrows(ArithmeticException.class, () -> BinaryGCD.gcd(-1, 2));
+        assertThrows(ArithmeticException.class, () -> BinaryGCD.gcd(2, -1));
+        assertThrows(ArithmeticException.class, () -> BinaryGCD.gcd(-1L, 2L));
+        assertThrows(ArithmeticException.class, () -> BinaryGCD.gcd(2L, Long.MIN_VALUE));
+        assertThrows(ArithmeticException.class, () -> BinaryGCD.gcd(BigInteger.ONE.negate(), BigInteger.TWO));
+        assertThrows(ArithmeticException.class, () -> BinaryGCD.gcd(BigInteger.TWO, BigInteger.ONE.negate()));
+        assertThrows(ArithmeticException.class, () -> BinaryGCD.extendedGcd(-1, 2));
+        assertThrows(ArithmeticException.class, () -> BinaryGCD.extendedGcd(2, -1));
+    }
+}
@@ -0,0 +1,184 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+
+public class ConcurrentDsuTest {
+    private ConcurrentDsu dsu;
+    private static final int TEST_SIZE = 5;
+
+    @BeforeEach
+    void setUp() {
+        dsu = new ConcurrentDsu(TEST_SIZE);
+    }
+
+    @Test
+    void testInitialization() {
+        assertEquals(TEST_SIZE, dsu.getSetCount(), "Initial set count should equal number of elements");
+
+        for (int i = 0; i < TEST_SIZE; i++) {
+            assertEquals(1, dsu.getSetSize(i), "Initial set size should be 1");
+            assertEquals(i, dsu.find(i), "Each element should be its own root initially");
+        }
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> dsu.find(-1));
+        assertThrows(IllegalArgumentException.class, () -> dsu.find(TEST_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> dsu.union(0, TEST_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> dsu.union(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> dsu.connected(TEST_SIZE, 0));
+        assertThrows(IllegalArgumentException.class, () -> dsu.connected(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> dsu.getSetSize(TEST_SIZE));
+    }
+
+    @Test
+    void testUnionAndConnected() {
+        assertFalse(dsu.connected(0, 1), "Elements should not be connected initially");
+
+        dsu.union(0, 1);
+        assertTrue(dsu.connected(0, 1), "Elements should be connected after union");
+        assertEquals(dsu.find(0), dsu.find(1), "After union, elements should have the same root");
+        assertEquals(TEST_SIZE - 1, dsu.getSetCount(), "Set count should decrease after union");
+        assertEquals(2, dsu.getSetSize(1), "Set size should be 2 after union");
+
+        dsu.union(1, 0);
+        assertEquals(TEST_SIZE - 1, dsu.getSetCount(), "Set count should not change for connected elements");
+
+        dsu.union(1, 2);
+        dsu.union(3, 4);
+        assertTrue(dsu.connected(0, 2), "Elements should be connected transitively");
+        assertFalse(dsu.connected(2, 3), "Separate sets should stay disconnected");
+        assertEquals(3, dsu.getSetSize(0), "Set size should be 3 after uniting three elements");
+        assertEquals(2, dsu.getSetSize(4), "Set size should be 2 for the second set");
+        assertEquals(2, dsu.getSetCount(), "Two sets should remain");
+    }
+
+    @Test
+    void testSequentialAgreementWithDsu() {
+        int n = 500;
+        Dsu reference = new Dsu(n);
+        ConcurrentDsu concurrent = new ConcurrentDsu(n);
+        Random random = new Random(3);
+        for (int step = 0; step < n; step++) {
+            int i = random.nextInt(n);
+            int j = random.nextInt(n);
+            reference.union(i, j);
+            concurrent.union(i, j);
+            assertEquals(reference.getSetCount(), concurrent.getSetCount(), "Set counts should match");
+        }
+        assertSamePartition(reference, concurrent, n);
+    }
+
+    @Test
+    void testConcurrentUnionsMatchSequentialDsu() throws Exception {
+        int n = 2000;
+        int threads = 4;
+        int pairsPerThread = 1000;
+        for (int round = 0; round < 10; round++) {
+            Random random = new Random(round);
+            int[][] pairs = new int[threads * pairsPerThread][];
+            for (int p = 0; p < pairs.length; p++) {
+                pairs[p] = new int[] {random.nextInt(n), random.nextInt(n)};
+            }
+
+            Dsu reference = new Dsu(n);
+            for (int[] pair : pairs) {
+                reference.union(pair[0], pair[1]);
+            }
+
+            ConcurrentDsu concurrent = new ConcurrentDsu(n);
+            CyclicBarrier start = new CyclicBarrier(threads);
+            Thread[] workers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                int from = t * pairsPerThread;
+                workers[t] = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    for (int p = from; p < from + pairsPerThread; p++) {
+                        concurrent.union(pairs[p][0], pairs[p][1]);
+                        concurrent.connected(pairs[p][1], pairs[(p * 7) % pairs.length][0]);
+                    }
+                });
+                workers[t].start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            assertEquals(reference.getSetCount(), concurrent.getSetCount(), "Set counts should match");
+            assertSamePartition(reference, concurrent, n);
+        }
+    }
+
+    @Test
+    void testBatchOperationsMatchSequentialDsu() {
+        int n = 5000;
+        int pairs = 2 * Dsu.BATCH_CHUNK + 17;
+        Random random = new Random(12);
+        int[] a = new int[pairs];
+        int[] b = new int[pairs];
+        for (int k = 0; k < pairs; k++) {
+            a[k] = random.nextInt(n);
+            b[k] = random.nextInt(n);
+        }
+        int[] unionA = Arrays.copyOf(a, n / 2);
+        int[] unionB = Arrays.copyOf(b, n / 2);
+
+        Dsu reference = new Dsu(n);
+        reference.unionAll(unionA, unionB);
+        ConcurrentDsu sequential = new ConcurrentDsu(n);
+        sequential.unionAll(unionA, unionB);
+        ConcurrentDsu parallel = new ConcurrentDsu(n);
+        parallel.unionAll(unionA, unionB, true);
+        assertSamePartition(reference, sequential, n);
+        assertSamePartition(reference, parallel, n);
+        for (int i = 0; i < n; i++) {
+            assertEquals(sequential.find(i), parallel.find(i), "Roots should not depend on union order");
+        }
+
+        boolean[] expected = new boolean[pairs];
+        boolean[] sequentialOut = new boolean[pairs];
+        boolean[] parallelOut = new boolean[pairs];
+        reference.connectedAll(a, b, expected);
+        parallel.connectedAll(a, b, sequentialOut);
+        parallel.connectedAll(a, b, parallelOut, true);
+        assertArrayEquals(expected, sequentialOut, "Sequential batch should match the per-pair answers");
+        assertArrayEquals(expected, parallelOut, "Parallel batch should match the per-pair answers");
+    }
+
+    @Test
+    void testBatchValidation() {
+        assertThrows(IllegalArgumentException.class, () -> dsu.unionAll(new int[] {0}, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> dsu.unionAll(new int[] {0}, new int[] {TEST_SIZE}, true));
+        assertThrows(IllegalArgumentException.class, () -> dsu.unionAll(new int[] {-1}, new int[] {0}));
+        assertThrows(IllegalArgumentException.class, () -> dsu.connectedAll(new int[] {0, 1}, new int[] {0, 1}, new boolean[1]));
+        assertThrows(IllegalArgumentException.class, () -> dsu.connectedAll(new int[] {0}, new int[] {0}, null, true));
+        assertEquals(TEST_SIZE, dsu.getSetCount(), "Rejected batches should not unite anything");
+    }
+
+    private static void assertSamePartition(Dsu reference, ConcurrentDsu concurrent, int n) {
+        Map<Integer, Integer> referenceToConcurrent = new HashMap<>();
+        Map<Integer, Integer> concurrentToReference = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            int referenceRoot = reference.find(i);
+            int concurrentRoot = concurrent.find(i);
+            assertEquals(referenceToConcurrent.computeIfAbsent(referenceRoot, r -> concurrentRoot), concurrentRoot,
+                    "Element " + i + " should share its set with the same elements");
+            assertEquals(concurrentToReference.computeIfAbsent(concurrentRoot, r -> referenceRoot), referenceRoot,
+                    "Element " + i + " should share its set with the same elements");
+            assertEquals(reference.getSetSize(i), concurrent.getSetSize(i), "Set sizes should match for element " + i);
+        }
+    }
+}
\ No newline at end of file
@@ -2,8 +2,13 @@ package org.example;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.Random;
+
 public class DsuTest {
     private Dsu dsu;
     private static final int TEST_SIZE = 5;
@@ -125,4 +130,110 @@ public class DsuTest {
         assertEquals(100, largeDsu.getSetSize(0), "Final set should contain all elements");
         assertEquals(1, largeDsu.getSetCount(), "Should only have one set at the end");
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @EnumSource(Dsu.PathStrategy.class)
+    void testPathStrategiesMatchDefaultFind(Dsu.PathStrategy strategy) {
+        int n = 1000;
+        Dsu reference = new Dsu(n);
+        Dsu variant = new Dsu(n, strategy);
+        assertEquals(strategy, variant.getPathStrategy());
+
+        // Same union sequence must produce the same roots, sizes and counts
+        Random random = new Random(42);
+        for (int step = 0; step < 2 * n; step++) {
+            int i = random.nextInt(n);
+            int j = random.nextInt(n);
+            reference.union(i, j);
+            variant.union(i, j);
+            assertEquals(reference.getSetCount(), variant.getSetCount(), "Set counts should match");
+        }
+        for (int i = 0; i < n; i++) {
+            assertEquals(reference.find(i), variant.find(i), "Roots should match for element " + i);
+            assertEquals(reference.getSetSize(i), variant.getSetSize(i), "Set sizes should match for element " + i);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Dsu.PathStrategy.class)
+    void testPathStrategiesOnDeepestTrees(Dsu.PathStrategy strategy) {
+        // Pairwise merging of equal-sized blocks builds trees of depth log2(n)
+        int n = 1 << 12;
+        Dsu variant = new Dsu(n, strategy);
+        for (int width = 1; width < n; width <<= 1) {
+            for (int i = 0; i + width < n; i += 2 * width) {
+                variant.union(i, i + width);
+            }
+        }
+        assertEquals(1, variant.getSetCount(), "Everything should be merged into one set");
+        int root = variant.find(0);
+        for (int i = n - 1; i >= 0; i--) {
+            assertEquals(root, variant.find(i), "Every element should reach the same root");
+        }
+        assertEquals(n, variant.getSetSize(n - 1), "The single set should contain every element");
+        assertThrows(IllegalArgumentException.class, () -> variant.find(n));
+    }
+
+    @Test
+    void testNullPathStrategyRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new Dsu(TEST_SIZE, null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Dsu.PathStrategy.class)
+    void testBatchOperationsMatchPerPairLoop(Dsu.PathStrategy strategy) {
+        int n = 5000;
+        int pairs = 3 * Dsu.BATCH_CHUNK;
+        Random random = new Random(9);
+        int[] a = new int[pairs];
+        int[] b = new int[pairs];
+        for (int k = 0; k < pairs; k++) {
+            a[k] = random.nextInt(n);
+            b[k] = random.nextInt(n);
+        }
+
+        Dsu loop = new Dsu(n, strategy);
+        Dsu batch = new Dsu(n, strategy);
+        for (int k = 0; k < pairs / 2000; k++) {
+            loop.union(a[k], b[k]);
+        }
+        batch.unionAll(Arrays.copyOf(a, pairs / 2000), Arrays.copyOf(b, pairs / 2000));
+        assertEquals(loop.getSetCount(), batch.getSetCount(), "Set counts should match");
+        for (int i = 0; i < n; i++) {
+            assertEquals(loop.find(i), batch.find(i), "Roots should match for element " + i);
+        }
+
+        boolean[] sequential = new boolean[pairs];
+        boolean[] parallel = new boolean[pairs + 1];
+        batch.connectedAll(a, b, sequential);
+        batch.connectedAll(a, b, parallel, true);
+        int connectedPairs = 0;
+        for (int k = 0; k < pairs; k++) {
+            boolean expected = loop.connected(a[k], b[k]);
+            assertEquals(expected, sequential[k], "Sequential batch should match pair " + k);
+            assertEquals(expected, parallel[k], "Parallel batch should match pair " + k);
+            connectedPairs += expected ? 1 : 0;
+        }
+        assertFalse(parallel[pairs], "Entries past the batch should be left untouched");
+        assertTrue(connectedPairs > 0 && connectedPairs < pairs, "The batch should mix both answers");
+    }
+
+    @Test
+    void testBatchValidation() {
+        boolean[] out = new boolean[2];
+        assertThrows(IllegalArgumentException.class, () -> dsu.unionAll(new int[] {0}, new int[] {0, 1}));
+        assertThrows(IllegalArgumentException.class, () -> dsu.unionAll(null, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> dsu.unionAll(new int[0], null));
+        assertThrows(IllegalArgumentException.class, () -> dsu.connectedAll(new int[] {0, 1}, new int[] {0, 1}, new boolean[1]));
+        assertThrows(IllegalArgumentException.class, () -> dsu.connectedAll(new int[] {0}, new int[] {0}, null));
+        assertThrows(IllegalArgumentException.class, () -> dsu.connectedAll(new int[] {0, TEST_SIZE}, new int[] {0, 1}, out));
+        assertThrows(IllegalArgumentException.class, () -> dsu.connectedAll(new int[] {0, 1}, new int[] {0, -1}, out));
+
+        // Pairs before an invalid index are applied, exactly like the per-pair loop
+        assertThrows(IllegalArgumentException.class, () -> dsu.unionAll(new int[] {0, 1, -1}, new int[] {1, 2, 3}));
+        assertTrue(dsu.connected(0, 2), "Pairs before the invalid one should be united");
+        assertEquals(TEST_SIZE - 2, dsu.getSetCount(), "Only the valid pairs should be united");
+        assertThrows(IllegalArgumentException.class, () -> dsu.unionAll(new int[] {3}, new int[] {TEST_SIZE}));
+        assertEquals(TEST_SIZE - 2, dsu.getSetCount(), "An invalid second index should not unite anything");
+    }
+}
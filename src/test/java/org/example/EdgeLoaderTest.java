@@ -0,0 +1,144 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class EdgeLoaderTest {
+    @TempDir
+    Path tempDir;
+
+    // Collects edges so the tests can check exactly what was loaded
+    private static final class RecordingSink implements EdgeSink {
+        final List<int[]> edges = new ArrayList<>();
+        int capacityHint = -1;
+
+        @Override
+        public void addEdge(int src, int dest, int weight) {
+            edges.add(new int[] {src, dest, weight});
+        }
+
+        @Override
+        public void ensureCapacity(int edges) {
+            capacityHint = edges;
+        }
+    }
+
+    @Test
+    void testBinaryLoad() throws IOException {
+        int[][] expected = {{0, 1, 10}, {0, 2, 6}, {0, 3, 5}, {1, 3, 15}, {2, 3, 4}, {3, 1, -7}, {1, 2, -100}};
+        Path file = writeBinary(expected);
+
+        RecordingSink sink = new RecordingSink();
+        EdgeLoader.IngestStats stats = EdgeLoader.loadBinary(file, sink);
+        assertEquals(expected.length, stats.edges(), "Every record should be counted");
+        assertEquals(expected.length * 12L, stats.bytes(), "Every byte should be counted");
+        assertEquals(expected.length, sink.capacityHint, "Sink should be sized before loading");
+        assertEdges(expected, sink.edges);
+        assertTrue(stats.nanos() > 0);
+        assertTrue(stats.edgesPerSecond() > 0);
+        assertTrue(stats.megabytesPerSecond() > 0);
+        assertTrue(stats.toString().contains("7 edges, 84 bytes"), stats.toString());
+
+        KruskalMST graph = new KruskalMST(4);
+        EdgeLoader.loadBinary(file, graph);
+        assertEquals(-100 - 7 + 5, graph.findMSTWeight(), "Loaded graph should give the expected MST");
+    }
+
+    @Test
+    void testBinaryRejectsPartialRecord() throws IOException {
+        Path file = Files.write(tempDir.resolve("partial.bin"), new byte[13]);
+        assertThrows(IOException.class, () -> EdgeLoader.loadBinary(file, new RecordingSink()));
+
+        Path empty = Files.write(tempDir.resolve("empty.bin"), new byte[0]);
+        assertEquals(0, EdgeLoader.loadBinary(empty, new RecordingSink()).edges(), "Empty file has no edges");
+    }
+
+    @Test
+    void testCsvLoad() throws IOException {
+        String csv = "src,dest,weight\r\n"
+                + "0,1,10\r\n"
+                + "\n"
+                + "# a comment line\n"
+                + "  0 , 2 , -6\n"
+                + "\t\n"
+                + "2147483647,-2147483648,0\n"
+                + "3,1,15";
+        Path file = Files.writeString(tempDir.resolve("edges.csv"), csv);
+
+        RecordingSink sink = new RecordingSink();
+        EdgeLoader.IngestStats stats = EdgeLoader.loadCsv(file, sink);
+        assertEdges(new int[][] {{0, 1, 10}, {0, 2, -6}, {Integer.MAX_VALUE, Integer.MIN_VALUE, 0}, {3, 1, 15}}, sink.edges);
+        assertEquals(4, stats.edges(), "Only edge lines should be counted");
+        assertEquals(csv.getBytes(StandardCharsets.US_ASCII).length, stats.bytes(), "Every byte should be counted");
+    }
+
+    @Test
+    void testCsvSpanningSeveralReadBuffers() throws IOException {
+        int lines = 120_000; // About 1.5 MB, more than one read buffer
+        StringBuilder csv = new StringBuilder();
+        for (int e = 0; e < lines; e++) {
+            csv.append(e % 1000).append(',').append((e + 1) % 1000).append(',').append(e).append('\n');
+        }
+        Path file = Files.writeString(tempDir.resolve("large.csv"), csv);
+
+        RecordingSink sink = new RecordingSink();
+        assertEquals(lines, EdgeLoader.loadCsv(file, sink).edges());
+        for (int e = 0; e < lines; e++) {
+            int[] edge = sink.edges.get(e);
+            assertEquals(e % 1000, edge[0], "Source of edge " + e);
+            assertEquals((e + 1) % 1000, edge[1], "Destination of edge " + e);
+            assertEquals(e, edge[2], "Weight of edge " + e);
+        }
+    }
+
+    @Test
+    void testCsvRejectsMalformedLines() {
+        String[] malformed = {
+            "0,1\n",
+            "0,1,2,3\n",
+            "0,,2\n",
+            "0,1,x\n",
+            "0,1,2147483648\n",
+            "0,1,-2147483649\n",
+            "0,1,99999999999\n",
+            "0,1,--2\n",
+            "0,1,2-\n",
+            "1,2 3,4\n",
+            "1,2,3 4\n",
+            "1,2,3\t4",
+            "1,2,3\nheader,after,first\n",
+            "-\n",
+            "0,1,",
+        };
+        for (String csv : malformed) {
+            IOException e = assertThrows(IOException.class, () -> EdgeLoader.loadCsv(
+                    Files.writeString(tempDir.resolve("bad.csv"), csv), new RecordingSink()), csv);
+            assertTrue(e.getMessage().contains("line"), e.getMessage());
+        }
+    }
+
+    private Path writeBinary(int[][] edges) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(edges.length * 12).order(ByteOrder.LITTLE_ENDIAN);
+        for (int[] edge : edges) {
+            buffer.putInt(edge[0]).putInt(edge[1]).putInt(edge[2]);
+        }
+        return Files.write(tempDir.resolve("edges.bin"), buffer.array());
+    }
+
+    private static void assertEdges(int[][] expected, List<int[]> actual) {
+        assertEquals(expected.length, actual.size(), "Edge counts should match");
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], actual.get(i), "Edge " + i + " should match");
+        }
+    }
+}
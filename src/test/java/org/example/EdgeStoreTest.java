@@ -0,0 +1,69 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+public class EdgeStoreTest {
+
+    @Test
+    void testEmptyAndGrowth() {
+        EdgeStore store = new EdgeStore();
+        assertEquals(0, store.size());
+        assertEquals(0, store.sortedOrder().length, "An empty store has an empty order");
+
+        for (int e = 0; e < 100; e++) {
+            store.add(e, e + 1, -e);
+        }
+        store.ensureCapacity(1000);
+        store.add(7, 8, 9);
+        assertEquals(101, store.size(), "Every added edge should be kept");
+        assertEquals(42, store.src(42));
+        assertEquals(43, store.dest(42));
+        assertEquals(-42, store.weight(42));
+        assertEquals(9, store.weight(100), "Edges added after ensureCapacity should be kept");
+    }
+
+    @Test
+    void testComparisonSortForSmallLists() {
+        assertSortedStably(EdgeStore.RADIX_THRESHOLD - 1, e -> (e * 37) % 11 - 5);
+    }
+
+    @Test
+    void testCountingSortForSmallWeightRanges() {
+        assertSortedStably(5000, e -> (e * 7919) % 100);
+        assertSortedStably(5000, e -> 1234);
+        assertSortedStably(EdgeStore.RADIX_THRESHOLD, e -> Integer.MIN_VALUE + e % 3);
+    }
+
+    @Test
+    void testRadixSortForWideWeightRanges() {
+        Random random = new Random(8);
+        assertSortedStably(5000, e -> random.nextInt());
+        assertSortedStably(5000, e -> e % 2 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE - e % 5);
+        assertSortedStably(5000, e -> (e % 40) * 1000);
+        assertSortedStably(5000, e -> (e % 3) << 22);
+    }
+
+    private static void assertSortedStably(int size, IntUnaryOperator weights) {
+        EdgeStore store = new EdgeStore();
+        Integer[] expected = new Integer[size];
+        int[] weight = new int[size];
+        for (int e = 0; e < size; e++) {
+            weight[e] = weights.applyAsInt(e);
+            store.add(e, e, weight[e]);
+            expected[e] = e;
+        }
+        Arrays.sort(expected, Comparator.comparingInt(e -> weight[e]));
+
+        int[] order = store.sortedOrder();
+        assertEquals(size, order.length, "Every edge should appear in the order");
+        for (int k = 0; k < size; k++) {
+            assertEquals(expected[k], order[k], "Position " + k + " should hold the stably sorted edge");
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class ExternalKruskalMSTTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSimpleGraph() throws IOException {
+        try (ExternalKruskalMST graph = new ExternalKruskalMST(4, tempDir, 2)) {
+            graph.addEdge(0, 1, 10);
+            graph.addEdge(0, 2, 6);
+            graph.addEdge(0, 3, 5);
+            graph.addEdge(1, 3, 15);
+            graph.addEdge(2, 3, 4);
+            assertEquals(2, graph.getRunCount(), "Two full buffers should have been spilled");
+
+            assertEquals(19L, graph.findMSTWeightExact(), "MST weight should be 19 (edges: 2-3=4, 0-3=5, 0-1=10)");
+            assertEquals(3, graph.getRunCount(), "The partial buffer should be spilled before merging");
+            assertEquals(19L, graph.findMSTWeightExact(), "Repeated queries should give the same weight");
+        }
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(0, files.count(), "Closing should delete every run file");
+        }
+    }
+
+    @Test
+    void testDisconnectedGraph() throws IOException {
+        try (ExternalKruskalMST graph = new ExternalKruskalMST(4, tempDir, 8)) {
+            assertThrows(IllegalStateException.class, graph::findMSTWeightExact);
+            graph.addEdge(0, 1, 1);
+            graph.addEdge(2, 3, 2);
+            assertThrows(IllegalStateException.class, graph::findMSTWeightExact);
+            graph.addEdge(1, 2, 3);
+            assertEquals(6L, graph.findMSTWeightExact(), "Bridge edge should complete the MST");
+        }
+        try (ExternalKruskalMST single = new ExternalKruskalMST(1, tempDir, 8)) {
+            assertEquals(0L, single.findMSTWeightExact(), "A single vertex has an empty MST");
+        }
+    }
+
+    @Test
+    void testManyRunsMatchInMemoryKruskal() throws IOException {
+        int vertices = 120;
+        Random random = new Random(10);
+        KruskalMST inMemory = new KruskalMST(vertices);
+        try (ExternalKruskalMST external = new ExternalKruskalMST(vertices, tempDir, 5)) {
+            for (int v = 1; v < vertices; v++) {
+                int u = random.nextInt(v);
+                int w = random.nextInt(20);
+                inMemory.addEdge(u, v, w);
+                external.addEdge(u, v, w);
+            }
+            for (int e = 0; e < 3000; e++) {
+                int u = random.nextInt(vertices);
+                int v = random.nextInt(vertices);
+                int w = random.nextInt(20);
+                inMemory.addEdge(u, v, w);
+                external.addEdge(u, v, w);
+            }
+            assertTrue(external.getRunCount() > ExternalKruskalMST.MAX_FAN_IN * 2, "Runs should need several merge groups");
+
+            assertEquals(inMemory.findMSTWeightExact(), external.findMSTWeightExact(), "Weights should match");
+            assertTrue(external.getRunCount() <= ExternalKruskalMST.MAX_FAN_IN, "Runs should be merged down to one fan-in");
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertEquals(external.getRunCount(), files.count(), "Merged runs should be deleted");
+            }
+        }
+    }
+
+    @Test
+    void testWeightsBeyondIntRange() throws IOException {
+        KruskalMST inMemory = new KruskalMST(4);
+        ParallelMST parallel = new ParallelMST(4, 2);
+        try (ExternalKruskalMST external = new ExternalKruskalMST(4, tempDir, 2)) {
+            for (int v = 1; v < 4; v++) {
+                inMemory.addEdge(v - 1, v, Integer.MAX_VALUE);
+                parallel.addEdge(v - 1, v, Integer.MAX_VALUE);
+                external.addEdge(v - 1, v, Integer.MAX_VALUE);
+            }
+            long expected = 3L * Integer.MAX_VALUE;
+            assertEquals(expected, inMemory.findMSTWeightExact(), "Exact weight should not overflow");
+            assertEquals(expected, parallel.findMSTWeightExact(), "Exact weight should not overflow");
+            assertEquals(expected, external.findMSTWeightExact(), "Exact weight should not overflow");
+            assertThrows(ArithmeticException.class, inMemory::findMSTWeight, "int weight should report overflow");
+            assertThrows(ArithmeticException.class, parallel::findMSTWeight, "int weight should report overflow");
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalKruskalMST(4, tempDir, 0));
+
+        ExternalKruskalMST missingDir = new ExternalKruskalMST(4, tempDir.resolve("missing"), 1);
+        assertThrows(UncheckedIOException.class, () -> missingDir.addEdge(0, 1, 1));
+    }
+}
@@ -0,0 +1,146 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class FactorialTableTest {
+    private static final long P = 1_000_000_007L;
+
+    @Test
+    void testFactorialsAndInverses() {
+        FactorialTable table = new FactorialTable(10_000, P);
+        assertEquals(10_000, table.getMaxN());
+        assertEquals(P, table.getModulus());
+        BigInteger mod = BigInteger.valueOf(P);
+        BigInteger factorial = BigInteger.ONE;
+        for (int n = 0; n <= 10_000; n++) {
+            if (n > 0) {
+                factorial = factorial.multiply(BigInteger.valueOf(n)).mod(mod);
+            }
+            assertEquals(factorial.intValueExact(), table.factorial(n), "n = " + n);
+            assertEquals(1L, (long) table.factorial(n) * table.inverseFactorial(n) % P, "n = " + n);
+        }
+        for (int n = 0; n <= 20; n++) {
+            assertEquals(Factorial.factorial(n) % P, table.factorial(n));
+        }
+    }
+
+    @Test
+    void testBinomialMatchesPascalTriangle() {
+        int maxN = 300;
+        FactorialTable table = new FactorialTable(maxN, P);
+        long[] row = {1};
+        for (int n = 0; n <= maxN; n++) {
+            for (int k = 0; k <= n; k++) {
+                assertEquals(row[k], table.binomial(n, k), "C(" + n + ", " + k + ")");
+            }
+            assertEquals(0, table.binomial(n, -1));
+            assertEquals(0, table.binomial(n, n + 1));
+            long[] next = new long[n + 2];
+            next[0] = 1;
+            next[n + 1] = 1;
+            for (int k = 1; k <= n; k++) {
+                next[k] = (row[k - 1] + row[k]) % P;
+            }
+            row = next;
+        }
+    }
+
+    @Test
+    void testSmallPrimeAndLargestPrime() {
+        FactorialTable small = new FactorialTable(6, 7);
+        assertEquals(6, small.factorial(3));
+        assertEquals(720 % 7, small.factorial(6));
+        assertEquals(20 % 7, small.binomial(6, 3));
+        FactorialTable largest = new FactorialTable(1000, Integer.MAX_VALUE);
+        assertEquals(1L, (long) largest.factorial(1000) * largest.inverseFactorial(1000) % Integer.MAX_VALUE);
+    }
+
+    @Test
+    void testSharedAcrossThreads() {
+        FactorialTable table = new FactorialTable(100_000, P);
+        AtomicInteger mismatches = new AtomicInteger();
+        IntStream.rangeClosed(0, 100_000).parallel().forEach(n -> {
+            if (table.binomial(n, n / 2) != table.binomial(n, n - n / 2)) {
+                mismatches.incrementAndGet();
+            }
+        });
+        assertEquals(0, mismatches.get());
+    }
+
+    @Test
+    void testSaveAndLoad(@TempDir Path dir) throws IOException {
+        FactorialTable table = new FactorialTable(50_000, 998_244_353L);
+        Path file = dir.resolve("factorials.bin");
+        table.save(file);
+        assertEquals(12 + 8L * 50_001, Files.size(file));
+        FactorialTable loaded = FactorialTable.load(file);
+        assertEquals(table.getMaxN(), loaded.getMaxN());
+        assertEquals(table.getModulus(), loaded.getModulus());
+        for (int n = 0; n <= 50_000; n += 7) {
+            assertEquals(table.factorial(n), loaded.factorial(n));
+            assertEquals(table.inverseFactorial(n), loaded.inverseFactorial(n));
+            assertEquals(table.binomial(50_000, n), loaded.binomial(50_000, n));
+        }
+
+        // Saving again truncates the old content
+        new FactorialTable(10, 13).save(file);
+        assertEquals(10, FactorialTable.load(file).getMaxN());
+
+        Path bogus = dir.resolve("bogus.bin");
+        Files.write(bogus, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> FactorialTable.load(bogus));
+        Files.write(bogus, new byte[20]);
+        assertThrows(IOException.class, () -> FactorialTable.load(bogus));
+    }
+
+    @Test
+    void testSaveAndLoadAcrossSeveralChunks(@TempDir Path dir) throws IOException {
+        int maxN = 2 * FactorialTable.IO_CHUNK_INTS + 5; // Two full chunks and a ragged tail
+        FactorialTable table = new FactorialTable(maxN, P);
+        Path file = dir.resolve("large.bin");
+        table.save(file);
+        assertEquals(12 + 8L * (maxN + 1), Files.size(file));
+        FactorialTable loaded = FactorialTable.load(file);
+        for (int n = 0; n <= maxN; n += 997) {
+            assertEquals(table.factorial(n), loaded.factorial(n), "n = " + n);
+            assertEquals(table.inverseFactorial(n), loaded.inverseFactorial(n), "n = " + n);
+        }
+        assertEquals(table.factorial(maxN), loaded.factorial(maxN));
+        assertEquals(table.inverseFactorial(maxN), loaded.inverseFactorial(maxN));
+    }
+
+    @Test
+    void testLoadRejectsCompositeModulus(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("composite.bin");
+        new FactorialTable(10, 13).save(file);
+        // Rewrite p in the header from 13 to 15; the size still matches maxN
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[8] = 15;
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> FactorialTable.load(file));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new FactorialTable(-1, P));
+        assertThrows(IllegalArgumentException.class, () -> new FactorialTable(10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new FactorialTable(10, 15));
+        assertThrows(IllegalArgumentException.class, () -> new FactorialTable(10, 2_147_483_659L));
+        assertThrows(IllegalArgumentException.class, () -> new FactorialTable(13, 13));
+        FactorialTable table = new FactorialTable(10, 13);
+        assertThrows(IllegalArgumentException.class, () -> table.factorial(11));
+        assertThrows(IllegalArgumentException.class, () -> table.factorial(-1));
+        assertThrows(IllegalArgumentException.class, () -> table.inverseFactorial(11));
+        assertThrows(IllegalArgumentException.class, () -> table.binomial(11, 1));
+        assertThrows(IllegalArgumentException.class, () -> table.binomial(-1, 0));
+    }
+}
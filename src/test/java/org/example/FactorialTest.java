@@ -0,0 +1,36 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+
+public class FactorialTest {
+
+    @Test
+    void testTableMatchesExactProduct() {
+        BigInteger expected = BigInteger.ONE;
+        for (int n = 0; n <= Factorial.MAX_N; n++) {
+            if (n > 0) {
+                expected = expected.multiply(BigInteger.valueOf(n));
+            }
+            assertEquals(expected.longValueExact(), Factorial.factorial(n), "n = " + n);
+            assertEquals(expected.longValueExact(), FactorialRecursion.factorial(n), "n = " + n);
+        }
+        assertEquals(2_432_902_008_176_640_000L, Factorial.factorial(20));
+    }
+
+    @Test
+    void testOverflowIsReported() {
+        assertThrows(ArithmeticException.class, () -> Factorial.factorial(Factorial.MAX_N + 1));
+        assertThrows(ArithmeticException.class, () -> Factorial.factorial(Integer.MAX_VALUE));
+        assertThrows(ArithmeticException.class, () -> FactorialRecursion.factorial(21));
+    }
+
+    @Test
+    void testNegativeInputThrows() {
+        assertThrows(IllegalArgumentException.class, () -> Factorial.factorial(-1));
+        assertThrows(IllegalArgumentException.class, () -> FactorialRecursion.factorial(-1));
+        assertThrows(IllegalArgumentException.class, () -> FactorialRecursion.factorial(Integer.MIN_VALUE));
+    }
+}
@@ -0,0 +1,56 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+public class FixedBasePowModTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 7, 8, 11, 16})
+    void testEveryWindowMatchesBigInteger(int windowBits) {
+        long[] moduli = {1, 2, 97, 1_000_000_007L, 1L << 40, 6_000_000_000_000_000_006L, Long.MAX_VALUE};
+        Random random = new Random(windowBits);
+        for (long mod : moduli) {
+            long base = random.nextLong();
+            FixedBasePowMod fixed = new FixedBasePowMod(base, mod, windowBits);
+            BigInteger b = BigInteger.valueOf(base).mod(BigInteger.valueOf(mod));
+            for (int i = 0; i < 50; i++) {
+                long exp = i < 3 ? new long[] {0, 1, Long.MAX_VALUE}[i] : random.nextLong() >>> (1 + random.nextInt(63));
+                long expected = b.modPow(BigInteger.valueOf(exp), BigInteger.valueOf(mod)).longValueExact();
+                assertEquals(expected, fixed.pow(exp), base + "^" + exp + " mod " + mod + ", w=" + windowBits);
+            }
+        }
+    }
+
+    @Test
+    void testMatchesFastExponentiation() {
+        FixedBasePowMod fixed = new FixedBasePowMod(5, 1_000_000_007L);
+        for (long exp = 0; exp < 2000; exp += 7) {
+            assertEquals(FastExponentiation.fastExponentiation(5, exp, 1_000_000_007L), fixed.pow(exp));
+        }
+    }
+
+    @Test
+    void testTableSizeAndGetters() {
+        FixedBasePowMod fixed = new FixedBasePowMod(-3, 101);
+        assertEquals(-3, fixed.getBase());
+        assertEquals(101, fixed.getModulus());
+        assertEquals(FixedBasePowMod.DEFAULT_WINDOW_BITS, fixed.getWindowBits());
+        assertEquals(8 * 256, fixed.getTableSize());
+        assertEquals(63 * 2, new FixedBasePowMod(2, 101, 1).getTableSize());
+        assertEquals(4 * 65536, new FixedBasePowMod(2, 101, 16).getTableSize());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedBasePowMod(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new FixedBasePowMod(2, 7, 0));
+        assertThrows(IllegalArgumentException.class, () -> new FixedBasePowMod(2, 7, FixedBasePowMod.MAX_WINDOW_BITS + 1));
+        assertThrows(ArithmeticException.class, () -> new FixedBasePowMod(2, 7).pow(-1));
+    }
+}
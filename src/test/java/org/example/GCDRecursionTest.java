@@ -0,0 +1,38 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+public class GCDRecursionTest {
+
+    @Test
+    void testMatchesGcd() {
+        assertEquals(0, GCDRecursion.gcd(0, 0));
+        assertEquals(5, GCDRecursion.gcd(0, 5));
+        assertEquals(5, GCDRecursion.gcd(5, 0));
+        assertEquals(5, GCDRecursion.gcd(20, 15));
+        assertEquals(5, GCDRecursion.gcd(15, 20));
+        Random random = new Random(13);
+        for (int i = 0; i < 100_000; i++) {
+            int a = random.nextInt(Integer.MAX_VALUE);
+            int b = random.nextInt(Integer.MAX_VALUE) >> random.nextInt(31);
+            assertEquals(GCD.gcd(a, b), GCDRecursion.gcd(a, b), a + ", " + b);
+        }
+    }
+
+    @Test
+    void testFibonacciWorstCase() {
+        // F(46) and F(45) are the largest consecutive Fibonacci ints: 44 remainder steps
+        assertEquals(1, GCDRecursion.gcd(1_836_311_903, 1_134_903_170));
+        assertEquals(1, GCDRecursion.gcd(1_134_903_170, 1_836_311_903));
+        assertEquals(3, GCDRecursion.gcd(3 * 433_494_437, 3 * 267_914_296));
+    }
+
+    @Test
+    void testNegativeInputsThrow() {
+        assertThrows(ArithmeticException.class, () -> GCDRecursion.gcd(-1, 2));
+        assertThrows(ArithmeticException.class, () -> GCDRecursion.gcd(2, -1));
+    }
+}
@@ -0,0 +1,79 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public class GCDTest {
+
+    // Multiples of `factor` with no larger common divisor
+    private static int[] multiples(int count, int factor, long seed) {
+        Random random = new Random(seed);
+        int[] numbers = new int[count];
+        for (int i = 0; i < count; i++) {
+            numbers[i] = factor * (1 + random.nextInt(1 << 16));
+        }
+        numbers[count / 2] = factor * 7;
+        numbers[count / 3] = factor * 11;
+        return numbers;
+    }
+
+    @Test
+    void testVarargsStopsAtOne() {
+        assertEquals(0, GCD.gcd());
+        assertEquals(6, GCD.gcd(12, 18, 30));
+        // The negative number is never reached once the gcd is 1
+        assertEquals(1, GCD.gcd(4, 9, -5));
+        assertThrows(ArithmeticException.class, () -> GCD.gcd(4, 8, -5));
+    }
+
+    @Test
+    void testParallelMatchesSequential() {
+        int count = 3 * GCD.PARALLEL_CHUNK + 17;
+        int[] numbers = multiples(count, 12, 1);
+        assertEquals(12, GCD.gcd(numbers));
+        assertEquals(12, GCD.gcd(numbers, true));
+        assertEquals(12, GCD.gcd(numbers, false));
+
+        // A coprime pair deep in the last chunk
+        numbers[count - 2] = 5;
+        numbers[count - 1] = 7;
+        assertEquals(1, GCD.gcd(numbers, true));
+        assertEquals(1, GCD.gcd(numbers));
+        assertEquals(0, GCD.gcd(new int[0], true));
+    }
+
+    @Test
+    void testIntBufferSlices() {
+        int count = 2 * GCD.PARALLEL_CHUNK + 5;
+        int[] numbers = multiples(count, 10, 2);
+        numbers[0] = 3; // Outside the slice below
+        ByteBuffer bytes = ByteBuffer.allocateDirect(count * Integer.BYTES).order(ByteOrder.nativeOrder());
+        IntBuffer direct = bytes.asIntBuffer().put(numbers);
+        direct.position(1);
+        assertEquals(10, GCD.gcd(direct));
+        assertEquals(10, GCD.gcd(direct, true));
+        assertEquals(1, direct.position());
+
+        IntBuffer heap = IntBuffer.wrap(numbers);
+        assertEquals(1, GCD.gcd(heap));
+        assertEquals(1, GCD.gcd(heap, true));
+        assertEquals(10, GCD.gcd(heap.position(1).slice(), true));
+    }
+
+    @Test
+    void testIntStreams() {
+        int[] numbers = multiples(100_000, 9, 3);
+        assertEquals(9, GCD.gcd(Arrays.stream(numbers)));
+        assertEquals(9, GCD.gcd(Arrays.stream(numbers).parallel()));
+        assertEquals(0, GCD.gcd(IntStream.empty()));
+        // An infinite sequential stream ends as soon as the gcd reaches 1
+        assertEquals(1, GCD.gcd(IntStream.iterate(6, n -> n + 5)));
+    }
+}
@@ -3,7 +3,13 @@ package org.example;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.Random;
 
 public class KruskalMSTTest {
     private KruskalMST graph;
@@ -107,4 +113,223 @@ public class KruskalMSTTest {
 
         assertEquals(9, graph.findMSTWeight(), "MST should use the minimum weight parallel edge");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testTiesKeepInsertionOrder() {
+        // Equal weights are taken in insertion order, as with a stable sort of the edge list
+        graph.addEdge(2, 3, 7);
+        graph.addEdge(0, 1, 7);
+        graph.addEdge(1, 2, 7);
+        graph.addEdge(0, 3, 7);
+
+        List<KruskalMST.Edge> mstEdges = graph.getMSTEdges();
+        assertEquals(2, mstEdges.get(0).src, "First edge should be the first one added");
+        assertEquals(0, mstEdges.get(1).src, "Second edge should be the second one added");
+        assertEquals(1, mstEdges.get(2).src, "Third edge should be the third one added");
+        assertEquals(2, mstEdges.get(2).dest, "Third edge should be the third one added");
+    }
+
+    @Test
+    void testNegativeWeights() {
+        graph.addEdge(0, 1, -5);
+        graph.addEdge(1, 2, 3);
+        graph.addEdge(2, 3, -1);
+        graph.addEdge(0, 3, Integer.MIN_VALUE / 2);
+
+        assertEquals(Integer.MIN_VALUE / 2 - 6, graph.findMSTWeight(), "Negative weights should sort first");
+    }
+
+    @Test
+    void testSingleVertex() {
+        KruskalMST single = new KruskalMST(1);
+        assertEquals(0, single.findMSTWeight(), "A single vertex has an empty MST");
+        assertTrue(single.getMSTEdges().isEmpty(), "A single vertex has an empty MST");
+        assertThrows(IllegalStateException.class, () -> new KruskalMST(0).findMSTWeight());
+    }
+
+    @Test
+    void testLargeRandomGraphMatchesBoxedKruskal() {
+        int vertices = 200;
+        Random random = new Random(4);
+        KruskalMST large = new KruskalMST(vertices);
+        List<KruskalMST.Edge> boxed = new ArrayList<>();
+        for (int v = 1; v < vertices; v++) {
+            int u = random.nextInt(v);
+            int w = random.nextInt(50);
+            large.addEdge(u, v, w);
+            boxed.add(new KruskalMST.Edge(u, v, w));
+        }
+        for (int e = 0; e < 3000; e++) {
+            int u = random.nextInt(vertices);
+            int v = random.nextInt(vertices);
+            int w = random.nextInt(50);
+            large.addEdge(u, v, w);
+            boxed.add(new KruskalMST.Edge(u, v, w));
+        }
+
+        // Reference: the original boxed Kruskal over a stably sorted edge list
+        Collections.sort(boxed);
+        Dsu dsu = new Dsu(vertices);
+        List<KruskalMST.Edge> expected = new ArrayList<>();
+        for (KruskalMST.Edge edge : boxed) {
+            if (!dsu.connected(edge.src, edge.dest)) {
+                dsu.union(edge.src, edge.dest);
+                expected.add(edge);
+            }
+        }
+
+        List<KruskalMST.Edge> actual = large.getMSTEdges();
+        assertEquals(vertices - 1, actual.size(), "MST should have n-1 edges");
+        int expectedWeight = 0;
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).src, actual.get(i).src, "Edge " + i + " should match");
+            assertEquals(expected.get(i).dest, actual.get(i).dest, "Edge " + i + " should match");
+            assertEquals(expected.get(i).weight, actual.get(i).weight, "Edge " + i + " should match");
+            expectedWeight += expected.get(i).weight;
+        }
+        assertEquals(expectedWeight, large.findMSTWeight(), "MST weight should match the boxed implementation");
+    }
+
+    @Test
+    void testRepeatedQueriesReuseCachedResult() {
+        graph.addEdge(0, 1, 10);
+        graph.addEdge(0, 2, 6);
+        graph.addEdge(0, 3, 5);
+        graph.addEdge(2, 3, 4);
+
+        List<KruskalMST.Edge> first = graph.getMSTEdges();
+        assertEquals(19, graph.findMSTWeight());
+        assertSame(first, graph.getMSTEdges(), "Unchanged graph should return the cached edge list");
+        assertThrows(UnsupportedOperationException.class, () -> first.remove(0),
+                "Cached edge list should be read-only");
+
+        graph.addEdge(1, 2, 1);
+        assertEquals(10, graph.findMSTWeight(), "Appended edge should be picked up");
+        List<KruskalMST.Edge> second = graph.getMSTEdges();
+        assertNotSame(first, second, "Appending an edge should invalidate the cached list");
+        assertEquals(1, second.get(0).weight, "New cheapest edge should come first");
+        assertEquals(19, first.stream().mapToInt(edge -> edge.weight).sum(), "Old list should be left untouched");
+    }
+
+    @Test
+    void testAppendingConnectsDisconnectedGraph() {
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(2, 3, 2);
+        assertThrows(IllegalStateException.class, () -> graph.findMSTWeight());
+        assertThrows(IllegalStateException.class, () -> graph.getMSTEdges());
+
+        graph.addEdge(1, 2, 7);
+        assertEquals(12, graph.findMSTWeight(), "Bridge edge should complete the MST");
+        assertEquals(3, graph.getMSTEdges().size(), "MST should have 3 edges");
+    }
+
+    @Test
+    void testIncrementalAppendsMatchRebuild() {
+        int vertices = 150;
+        Random random = new Random(6);
+        KruskalMST incremental = new KruskalMST(vertices);
+        List<int[]> added = new ArrayList<>();
+        for (int round = 0; round < 12; round++) {
+            int batch = round % 3 == 0 ? 500 : 1 + random.nextInt(80);
+            for (int e = 0; e < batch; e++) {
+                int[] edge = {random.nextInt(vertices), random.nextInt(vertices), random.nextInt(round + 2) * 10};
+                incremental.addEdge(edge[0], edge[1], edge[2]);
+                added.add(edge);
+            }
+
+            KruskalMST rebuilt = new KruskalMST(vertices);
+            for (int[] edge : added) {
+                rebuilt.addEdge(edge[0], edge[1], edge[2]);
+            }
+            if (round == 0) {
+                continue; // Not connected yet; later rounds check the incremental path
+            }
+            assertEquals(rebuilt.findMSTWeight(), incremental.findMSTWeight(), "Weights should match in round " + round);
+            List<KruskalMST.Edge> expected = rebuilt.getMSTEdges();
+            List<KruskalMST.Edge> actual = incremental.getMSTEdges();
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).src, actual.get(i).src, "Edge " + i + " should match in round " + round);
+                assertEquals(expected.get(i).dest, actual.get(i).dest, "Edge " + i + " should match in round " + round);
+                assertEquals(expected.get(i).weight, actual.get(i).weight, "Edge " + i + " should match in round " + round);
+            }
+        }
+    }
+
+    @Test
+    void testLazyIteratorYieldsMSTEdgesInOrder() {
+        int vertices = 100;
+        Random random = new Random(15);
+        KruskalMST lazy = new KruskalMST(vertices);
+        KruskalMST eager = new KruskalMST(vertices);
+        for (int v = 1; v < vertices; v++) {
+            int u = random.nextInt(v);
+            int w = random.nextInt(30);
+            lazy.addEdge(u, v, w);
+            eager.addEdge(u, v, w);
+        }
+        for (int e = 0; e < 1000; e++) {
+            int u = random.nextInt(vertices);
+            int v = random.nextInt(vertices);
+            int w = random.nextInt(30);
+            lazy.addEdge(u, v, w);
+            eager.addEdge(u, v, w);
+        }
+
+        // Uncached graph: heap-driven iteration
+        List<KruskalMST.Edge> expected = eager.getMSTEdges();
+        List<KruskalMST.Edge> firstTen = lazy.mstEdgeStream().limit(10).collect(Collectors.toList());
+        assertEquals(10, firstTen.size());
+        assertSameEdges(expected.subList(0, 10), firstTen);
+
+        Iterator<KruskalMST.Edge> all = lazy.mstEdgeIterator();
+        List<KruskalMST.Edge> drained = new ArrayList<>();
+        while (all.hasNext()) {
+            assertTrue(all.hasNext(), "hasNext should be idempotent");
+            drained.add(all.next());
+        }
+        assertSameEdges(expected, drained);
+        assertThrows(NoSuchElementException.class, all::next);
+
+        // Cached graph: the iterator replays the cached forest
+        assertEquals(eager.findMSTWeight(), lazy.findMSTWeight());
+        List<KruskalMST.Edge> cached = lazy.mstEdgeStream().collect(Collectors.toList());
+        assertSameEdges(expected, cached);
+        Iterator<KruskalMST.Edge> replay = lazy.mstEdgeIterator();
+        for (int i = 0; i < vertices - 1; i++) {
+            replay.next();
+        }
+        assertFalse(replay.hasNext());
+        assertThrows(NoSuchElementException.class, replay::next);
+    }
+
+    @Test
+    void testLazyIteratorOnDisconnectedGraphYieldsForest() {
+        graph.addEdge(2, 3, 2);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(3, 2, 0);
+
+        Iterator<KruskalMST.Edge> forest = graph.mstEdgeIterator();
+        assertEquals(0, forest.next().weight, "Cheapest edge should come first");
+        assertEquals(1, forest.next().weight, "Parallel edge should be skipped");
+        assertFalse(forest.hasNext(), "A disconnected graph ends with its spanning forest");
+
+        graph.addEdge(1, 2, 5);
+        Iterator<KruskalMST.Edge> snapshot = graph.mstEdgeIterator();
+        graph.addEdge(0, 3, -1);
+        assertEquals(3, graph.mstEdgeStream().count(), "New iterator should see the appended edges");
+        assertEquals(0, snapshot.next().weight, "Iterator should work on the edges present when created");
+        snapshot.next();
+        assertEquals(5, snapshot.next().weight, "Iterator should work on the edges present when created");
+        assertFalse(snapshot.hasNext());
+        assertFalse(new KruskalMST(0).mstEdgeIterator().hasNext(), "No vertices means no edges");
+    }
+
+    private static void assertSameEdges(List<KruskalMST.Edge> expected, List<KruskalMST.Edge> actual) {
+        assertEquals(expected.size(), actual.size(), "Edge counts should match");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).src, actual.get(i).src, "Edge " + i + " should match");
+            assertEquals(expected.get(i).dest, actual.get(i).dest, "Edge " + i + " should match");
+            assertEquals(expected.get(i).weight, actual.get(i).weight, "Edge " + i + " should match");
+        }
+    }
+}
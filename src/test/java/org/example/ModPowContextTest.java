@@ -0,0 +1,142 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+public class ModPowContextTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 4, 7, 12, 1_000_000_007L, 3_037_000_499L, 3_037_000_501L,
+            4_000_000_000L, 1L << 32, (1L << 61) - 1, 1L << 62, 3L << 60, 0x7FFF_FFFF_FFFF_FFC0L, Long.MAX_VALUE})
+    void testPowMatchesBigInteger(long mod) {
+        ModPowContext context = ModPowContext.of(mod);
+        assertEquals(mod, context.getModulus());
+        BigInteger m = BigInteger.valueOf(mod);
+        Random random = new Random(mod);
+        for (int i = 0; i < 200; i++) {
+            long base = i < 4 ? new long[] {0, 1, -1, Long.MIN_VALUE}[i] : random.nextLong();
+            long exp = i % 10 == 0 ? i / 10 : random.nextLong() >>> (1 + random.nextInt(63));
+            long expected = BigInteger.valueOf(base).mod(m).modPow(BigInteger.valueOf(exp), m).longValueExact();
+            assertEquals(expected, context.pow(base, exp), base + "^" + exp + " mod " + mod);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 9, 1_000_000_007L, 1L << 40, (1L << 61) - 1, 6_000_000_000_000_000_006L, Long.MAX_VALUE})
+    void testMultiplyMatchesBigInteger(long mod) {
+        ModPowContext context = ModPowContext.of(mod);
+        BigInteger m = BigInteger.valueOf(mod);
+        Random random = new Random(~mod);
+        for (int i = 0; i < 200; i++) {
+            long a = random.nextLong();
+            long b = i % 2 == 0 ? random.nextLong() : Long.MAX_VALUE - i;
+            long expected = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).mod(m).longValueExact();
+            assertEquals(expected, context.multiply(a, b), a + " * " + b + " mod " + mod);
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> ModPowContext.of(0));
+        assertThrows(IllegalArgumentException.class, () -> ModPowContext.of(-7));
+        assertThrows(ArithmeticException.class, () -> ModPowContext.of(7).pow(2, -1));
+    }
+
+    @Test
+    void testFastExponentiationHandlesLargeModuli() {
+        // Above MAX_DIRECT_MODULUS the plain loop would overflow base * base
+        long mod = (1L << 61) - 1;
+        long expected = BigInteger.valueOf(3).modPow(BigInteger.valueOf(1_000_003), BigInteger.valueOf(mod)).longValueExact();
+        assertEquals(expected, FastExponentiation.fastExponentiation(3, 1_000_003, mod));
+
+        long justAbove = FastExponentiation.MAX_DIRECT_MODULUS + 1;
+        long base = justAbove - 1;
+        long square = BigInteger.valueOf(base).pow(2).mod(BigInteger.valueOf(justAbove)).longValueExact();
+        assertEquals(square, FastExponentiation.fastExponentiation(base, 2, justAbove));
+
+        // At the limit the direct loop is still exact
+        long limit = FastExponentiation.MAX_DIRECT_MODULUS;
+        long limitSquare = BigInteger.valueOf(limit - 1).pow(2).mod(BigInteger.valueOf(limit)).longValueExact();
+        assertEquals(limitSquare, FastExponentiation.fastExponentiation(limit - 1, 2, limit));
+    }
+
+    @Test
+    void testFastExponentiationAlternatingLargeModuli() {
+        // Switching moduli must replace the cached context, never reuse a stale one
+        long[] moduli = {(1L << 61) - 1, 4_000_000_000L, Long.MAX_VALUE};
+        for (int i = 0; i < 30; i++) {
+            long mod = moduli[i % moduli.length];
+            long expected = BigInteger.valueOf(7).modPow(BigInteger.valueOf(i + 1_000L), BigInteger.valueOf(mod)).longValueExact();
+            assertEquals(expected, FastExponentiation.fastExponentiation(7, i + 1_000L, mod), "7^" + (i + 1_000) + " mod " + mod);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {5, 1_000_000_007L, 3_037_000_500L, 3_037_000_501L, 4_000_000_000L, Long.MAX_VALUE})
+    void testFastExponentiationSignMatchesRemainderOnBothSides(long mod) {
+        // The result has the sign of base^exp, like BigInteger.remainder, whichever path runs
+        BigInteger m = BigInteger.valueOf(mod);
+        Random random = new Random(mod);
+        for (int i = 0; i < 200; i++) {
+            long base = i < 4 ? new long[] {-3, -mod, Long.MIN_VALUE, -1}[i] : random.nextLong();
+            long exp = i % 10 == 0 ? i / 10 : random.nextLong() >>> (1 + random.nextInt(63));
+            BigInteger power = BigInteger.valueOf(base).mod(m).modPow(BigInteger.valueOf(exp), m);
+            long expected = base < 0 && (exp & 1) == 1 && power.signum() != 0
+                    ? power.subtract(m).longValueExact() : power.longValueExact();
+            assertEquals(expected, FastExponentiation.fastExponentiation(base, exp, mod), base + "^" + exp + " mod " + mod);
+        }
+        assertEquals(-3, FastExponentiation.fastExponentiation(-3, 1, 5));
+        assertEquals(-3, FastExponentiation.fastExponentiation(-3, 1, 4_000_000_000L));
+        assertEquals(9, FastExponentiation.fastExponentiation(-3, 2, 4_000_000_000L));
+        assertEquals(0, FastExponentiation.fastExponentiation(5, 0, 1), "x^0 % 1 is 0");
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 5, 8, 1_000_000_007L, 6_000_000_000_000_000_006L, Long.MAX_VALUE})
+    void testBatchMatchesScalar(long mod) {
+        // 4099 covers whole lane groups, a ragged tail and more than one parallel chunk
+        int n = ModPowContext.BATCH_CHUNK + 3;
+        Random random = new Random(mod);
+        long[] bases = new long[n];
+        long[] exps = new long[n];
+        for (int i = 0; i < n; i++) {
+            bases[i] = random.nextLong();
+            exps[i] = i % 7 == 0 ? i % 3 : random.nextLong() >>> (1 + random.nextInt(63));
+        }
+        bases[1] = -3;
+        exps[1] = 1;
+        long[] serial = new long[n];
+        long[] parallel = new long[n + 1];
+        FastExponentiation.powMod(bases, exps, mod, serial);
+        FastExponentiation.powMod(bases, exps, mod, parallel, true);
+        for (int i = 0; i < n; i++) {
+            // The batch is a drop-in replacement for the per-element loop, negative bases included
+            long expected = FastExponentiation.fastExponentiation(bases[i], exps[i], mod);
+            assertEquals(expected, serial[i], "index " + i);
+            assertEquals(expected, parallel[i], "index " + i);
+        }
+        assertEquals(0, parallel[n]);
+    }
+
+    @Test
+    void testBatchInvalidArguments() {
+        long[] four = {1, 2, 3, 4};
+        long[] out = new long[4];
+        assertThrows(IllegalArgumentException.class, () -> FastExponentiation.powMod(four, four, 0, out));
+        assertThrows(IllegalArgumentException.class, () -> FastExponentiation.powMod(null, four, 7, out));
+        assertThrows(IllegalArgumentException.class, () -> FastExponentiation.powMod(four, null, 7, out));
+        assertThrows(IllegalArgumentException.class, () -> FastExponentiation.powMod(four, new long[3], 7, out));
+        assertThrows(IllegalArgumentException.class, () -> FastExponentiation.powMod(four, four, 7, null));
+        assertThrows(IllegalArgumentException.class, () -> FastExponentiation.powMod(four, four, 7, new long[3]));
+        // Negative exponents are rejected both in a lane group and in the tail
+        assertThrows(ArithmeticException.class,
+                () -> FastExponentiation.powMod(four, new long[] {1, 2, -3, 4}, 7, out));
+        assertThrows(ArithmeticException.class,
+                () -> FastExponentiation.powMod(new long[] {2}, new long[] {-1}, 7, new long[1]));
+    }
+}
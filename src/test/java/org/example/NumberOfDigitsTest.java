@@ -0,0 +1,76 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+public class NumberOfDigitsTest {
+
+    // Digit count of |number| via its decimal string
+    private static int expectedDigits(long number) {
+        String text = Long.toString(number);
+        return number < 0 ? text.length() - 1 : text.length();
+    }
+
+    @Test
+    void testLookupIntAroundPowersOfTen() {
+        assertEquals(1, NumberOfDigits.numberOfDigitsLookup(0));
+        for (long power = 1; power <= 1_000_000_000L; power *= 10) {
+            for (long delta = -2; delta <= 2; delta++) {
+                int value = (int) (power + delta);
+                assertEquals(expectedDigits(value), NumberOfDigits.numberOfDigitsLookup(value), "value " + value);
+                assertEquals(expectedDigits(-value), NumberOfDigits.numberOfDigitsLookup(-value), "value " + -value);
+            }
+        }
+        // Every bit length, where the estimate changes
+        for (int bit = 0; bit < 31; bit++) {
+            for (int value : new int[] {1 << bit, (1 << bit) - 1, -(1 << bit)}) {
+                assertEquals(expectedDigits(value), NumberOfDigits.numberOfDigitsLookup(value), "value " + value);
+            }
+        }
+        assertEquals(10, NumberOfDigits.numberOfDigitsLookup(Integer.MAX_VALUE));
+        assertEquals(10, NumberOfDigits.numberOfDigitsLookup(Integer.MIN_VALUE));
+    }
+
+    @Test
+    void testLookupLongAroundPowersOfTen() {
+        assertEquals(1, NumberOfDigits.numberOfDigitsLookup(0L));
+        long power = 1;
+        for (int k = 0; k <= 18; k++, power *= 10) {
+            for (long delta = -2; delta <= 2; delta++) {
+                long value = power + delta;
+                assertEquals(expectedDigits(value), NumberOfDigits.numberOfDigitsLookup(value), "value " + value);
+                assertEquals(expectedDigits(-value), NumberOfDigits.numberOfDigitsLookup(-value), "value " + -value);
+            }
+        }
+        for (int bit = 0; bit < 63; bit++) {
+            for (long value : new long[] {1L << bit, (1L << bit) - 1, -(1L << bit)}) {
+                assertEquals(expectedDigits(value), NumberOfDigits.numberOfDigitsLookup(value), "value " + value);
+            }
+        }
+        assertEquals(19, NumberOfDigits.numberOfDigitsLookup(Long.MAX_VALUE));
+        assertEquals(19, NumberOfDigits.numberOfDigitsLookup(Long.MIN_VALUE));
+    }
+
+    @Test
+    void testLookupMatchesOtherVariantsOnRandomInputs() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int value = random.nextInt() >> random.nextInt(32);
+            int expected = NumberOfDigits.numberOfDigits(value);
+            assertEquals(expected, NumberOfDigits.numberOfDigitsLookup(value), "value " + value);
+            assertEquals(expected, NumberOfDigits.numberOfDigitsLookup((long) value), "value " + value);
+            long wide = random.nextLong() >> random.nextInt(64);
+            assertEquals(expectedDigits(wide), NumberOfDigits.numberOfDigitsLookup(wide), "value " + wide);
+        }
+    }
+
+    @Test
+    void testAllVariantsAtIntegerMinValue() {
+        assertEquals(10, NumberOfDigits.numberOfDigits(Integer.MIN_VALUE));
+        assertEquals(10, NumberOfDigits.numberOfDigitsFast(Integer.MIN_VALUE));
+        assertEquals(10, NumberOfDigits.numberOfDigitsFaster(Integer.MIN_VALUE));
+        assertEquals(10, NumberOfDigits.numberOfDigitsRecursion(Integer.MIN_VALUE));
+    }
+}
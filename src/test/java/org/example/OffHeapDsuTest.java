@@ -0,0 +1,106 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+public class OffHeapDsuTest {
+    private static final int TEST_SIZE = 5;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testBasicOperations() throws IOException {
+        try (OffHeapDsu dsu = OffHeapDsu.create(tempDir.resolve("basic.dsu"), TEST_SIZE)) {
+            assertEquals(TEST_SIZE, dsu.getSetCount(), "Initial set count should equal number of elements");
+            for (int i = 0; i < TEST_SIZE; i++) {
+                assertEquals(i, dsu.find(i), "Each element should be its own root initially");
+                assertEquals(1, dsu.getSetSize(i), "Initial set size should be 1");
+            }
+
+            dsu.union(0, 1);
+            dsu.union(1, 2);
+            dsu.union(2, 0);
+            assertTrue(dsu.connected(0, 2), "Elements should be connected transitively");
+            assertFalse(dsu.connected(0, 3), "Other elements should stay disconnected");
+            assertEquals(3, dsu.getSetSize(2), "Set size should be 3 after uniting three elements");
+            assertEquals(TEST_SIZE - 2, dsu.getSetCount(), "Set count should only drop for real merges");
+
+            dsu.union(3, 4);
+            dsu.union(4, 0);
+            assertEquals(TEST_SIZE, dsu.getSetSize(3), "Final set should contain all elements");
+            assertEquals(1, dsu.getSetCount(), "Should only have one set at the end");
+
+            assertThrows(IllegalArgumentException.class, () -> dsu.find(-1));
+            assertThrows(IllegalArgumentException.class, () -> dsu.find(TEST_SIZE));
+        }
+    }
+
+    @Test
+    void testMatchesHeapDsu() throws IOException {
+        int n = 3000;
+        Dsu reference = new Dsu(n);
+        Random random = new Random(21);
+        try (OffHeapDsu dsu = OffHeapDsu.create(tempDir.resolve("random.dsu"), n)) {
+            for (int step = 0; step < n; step++) {
+                int i = random.nextInt(n);
+                int j = random.nextInt(n);
+                reference.union(i, j);
+                dsu.union(i, j);
+            }
+            assertEquals(reference.getSetCount(), dsu.getSetCount(), "Set counts should match");
+            for (int i = 0; i < n; i++) {
+                assertEquals(reference.find(i), dsu.find(i), "Roots should match for element " + i);
+                assertEquals(reference.getSetSize(i), dsu.getSetSize(i), "Set sizes should match for element " + i);
+            }
+        }
+    }
+
+    @Test
+    void testReopenContinuesPartialStructure() throws IOException {
+        Path file = tempDir.resolve("persist.dsu");
+        try (OffHeapDsu dsu = OffHeapDsu.create(file, TEST_SIZE)) {
+            dsu.union(0, 1);
+            dsu.union(3, 4);
+            dsu.flush();
+        }
+
+        try (OffHeapDsu reopened = OffHeapDsu.open(file)) {
+            assertEquals(TEST_SIZE - 2, reopened.getSetCount(), "Set count should survive reopening");
+            assertTrue(reopened.connected(0, 1), "Unions should survive reopening");
+            assertTrue(reopened.connected(3, 4), "Unions should survive reopening");
+            assertEquals(2, reopened.getSetSize(4), "Set sizes should survive reopening");
+
+            reopened.union(1, 4);
+            assertEquals(4, reopened.getSetSize(0), "Reopened structure should keep accepting unions");
+        }
+
+        try (OffHeapDsu again = OffHeapDsu.open(file)) {
+            assertEquals(2, again.getSetCount(), "Set count should include unions made after reopening");
+            assertFalse(again.connected(2, 0), "Untouched element should still be alone");
+        }
+    }
+
+    @Test
+    void testInvalidFiles() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> OffHeapDsu.create(tempDir.resolve("negative.dsu"), -1));
+
+        Path empty = Files.createFile(tempDir.resolve("empty.dsu"));
+        assertThrows(IOException.class, () -> OffHeapDsu.open(empty));
+
+        Path garbage = Files.write(tempDir.resolve("garbage.dsu"), new byte[64]);
+        assertThrows(IOException.class, () -> OffHeapDsu.open(garbage));
+
+        Path truncated = tempDir.resolve("truncated.dsu");
+        OffHeapDsu.create(truncated, TEST_SIZE).close();
+        Files.write(truncated, Arrays.copyOf(Files.readAllBytes(truncated), 20));
+        assertThrows(IOException.class, () -> OffHeapDsu.open(truncated));
+    }
+}
@@ -0,0 +1,101 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+
+public class ParallelMSTTest {
+
+    @Test
+    void testSimpleGraph() {
+        ParallelMST graph = new ParallelMST(4, 2);
+        graph.addEdge(0, 1, 10);
+        graph.addEdge(0, 2, 6);
+        graph.addEdge(0, 3, 5);
+        graph.addEdge(1, 3, 15);
+        graph.addEdge(2, 3, 4);
+
+        assertEquals(19, graph.findMSTWeight(), "MST weight should be 19 (edges: 2-3=4, 0-3=5, 0-1=10)");
+        List<KruskalMST.Edge> mstEdges = graph.getMSTEdges();
+        assertEquals(3, mstEdges.size(), "MST should have 3 edges");
+        assertEquals(4, mstEdges.get(0).weight, "First edge should be weight 4 (2-3)");
+        assertEquals(5, mstEdges.get(1).weight, "Second edge should be weight 5 (0-3)");
+        assertEquals(10, mstEdges.get(2).weight, "Third edge should be weight 10 (0-1)");
+    }
+
+    @Test
+    void testDisconnectedAndEmptyGraphs() {
+        ParallelMST graph = new ParallelMST(4);
+        assertThrows(IllegalStateException.class, graph::findMSTWeight);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(2, 3, 2);
+        graph.addEdge(3, 2, 0);
+        assertThrows(IllegalStateException.class, graph::getMSTEdges);
+
+        assertEquals(0, new ParallelMST(1).findMSTWeight(), "A single vertex has an empty MST");
+        assertThrows(IllegalStateException.class, () -> new ParallelMST(0).findMSTWeight());
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMST(4, 0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4})
+    void testRandomGraphsMatchKruskal(int parallelism) {
+        Random random = new Random(parallelism);
+        for (int round = 0; round < 5; round++) {
+            int vertices = 50 + random.nextInt(200);
+            ParallelMST parallel = new ParallelMST(vertices, parallelism);
+            KruskalMST sequential = new KruskalMST(vertices);
+            for (int v = 1; v < vertices; v++) {
+                int u = random.nextInt(v);
+                int w = random.nextInt(1000) - 500;
+                parallel.addEdge(u, v, w);
+                sequential.addEdge(u, v, w);
+            }
+            for (int e = 0; e < vertices * 4; e++) {
+                int u = random.nextInt(vertices);
+                int v = random.nextInt(vertices);
+                int w = random.nextInt(round == 0 ? 3 : 1000) - 500;
+                parallel.addEdge(u, v, w);
+                sequential.addEdge(u, v, w);
+            }
+            assertEquals(sequential.findMSTWeight(), parallel.findMSTWeight(), "Weights should match in round " + round);
+            assertSameEdges(sequential.getMSTEdges(), parallel.getMSTEdges());
+        }
+    }
+
+    @Test
+    void testEqualWeightGridMatchesKruskal() {
+        // Every edge has the same weight, so only the insertion-order tie break decides the tree
+        int side = 20;
+        ParallelMST parallel = new ParallelMST(side * side, 3);
+        KruskalMST sequential = new KruskalMST(side * side);
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = r * side + c;
+                if (c + 1 < side) {
+                    parallel.addEdge(v, v + 1, 1);
+                    sequential.addEdge(v, v + 1, 1);
+                }
+                if (r + 1 < side) {
+                    parallel.addEdge(v, v + side, 1);
+                    sequential.addEdge(v, v + side, 1);
+                }
+            }
+        }
+        assertEquals(side * side - 1, parallel.findMSTWeight(), "Every MST of the grid has n-1 unit edges");
+        assertSameEdges(sequential.getMSTEdges(), parallel.getMSTEdges());
+    }
+
+    private static void assertSameEdges(List<KruskalMST.Edge> expected, List<KruskalMST.Edge> actual) {
+        assertEquals(expected.size(), actual.size(), "MST sizes should match");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).src, actual.get(i).src, "Edge " + i + " should match");
+            assertEquals(expected.get(i).dest, actual.get(i).dest, "Edge " + i + " should match");
+            assertEquals(expected.get(i).weight, actual.get(i).weight, "Edge " + i + " should match");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.example;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.stream.IntStream;
+
+/**
+ * Checks every int, which takes minutes, so it only runs with the exhaustive profile
+ * ({@code mvn -Pexhaustive verify}) and is left out of mutation testing.
+ */
+@Tag("exhaustive")
+public class PerfectCubeExhaustiveIT {
+
+    @Test
+    void testEveryIntAgainstCubeRootBounds() {
+        // One task per high 16 bits; each checks 65536 consecutive ints
+        long failures = IntStream.range(0, 1 << 16).parallel().mapToLong(high -> {
+            long count = 0;
+            for (int low = 0; low < 1 << 16; low++) {
+                int number = high << 16 | low;
+                long root = Math.abs((long) PerfectCube.cubeRoot(number));
+                long magnitude = Math.abs((long) number);
+                boolean floor = root * root * root <= magnitude && (root + 1) * (root + 1) * (root + 1) > magnitude;
+                boolean cube = root * root * root == magnitude;
+                boolean exact = PerfectCube.isPerfectCube(number);
+                if (!floor || exact != cube || exact != PerfectCube.isPerfectCubeMathCbrt(number)
+                        || PerfectCube.isPerfectCube((long) number) != cube) {
+                    count++;
+                }
+            }
+            return count;
+        }).sum();
+        assertEquals(0, failures);
+    }
+}
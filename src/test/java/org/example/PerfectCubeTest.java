@@ -0,0 +1,78 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+public class PerfectCubeTest {
+
+    @Test
+    void testCubesThatPowRoundingMissed() {
+        // (int) Math.pow(1000, 1.0 / 3) is 9, so the old check rejected these
+        assertTrue(PerfectCube.isPerfectCube(1000));
+        assertTrue(PerfectCube.isPerfectCube(-1000));
+        assertTrue(PerfectCube.isPerfectCube(1290 * 1290 * 1290));
+        assertFalse(PerfectCube.isPerfectCube(1290 * 1290 * 1290 + 1));
+        assertFalse(PerfectCube.isPerfectCube(Integer.MIN_VALUE));
+        assertFalse(PerfectCube.isPerfectCube(Integer.MAX_VALUE));
+        assertTrue(PerfectCube.isPerfectCube(0));
+        assertTrue(PerfectCube.isPerfectCube(1));
+        assertTrue(PerfectCube.isPerfectCube(-1));
+    }
+
+    @Test
+    void testIntCubeRootAroundEveryCube() {
+        for (int r = 0; r <= 1290; r++) {
+            int cube = r * r * r;
+            assertEquals(r, PerfectCube.cubeRoot(cube));
+            assertEquals(-r, PerfectCube.cubeRoot(-cube));
+            assertTrue(PerfectCube.isPerfectCube(cube));
+            assertTrue(PerfectCube.isPerfectCube(-cube));
+            if (r > 1) {
+                assertEquals(r - 1, PerfectCube.cubeRoot(cube - 1));
+                assertEquals(r, PerfectCube.cubeRoot(cube + 1));
+                assertFalse(PerfectCube.isPerfectCube(cube - 1));
+                assertFalse(PerfectCube.isPerfectCube(cube + 1));
+            }
+        }
+        assertEquals(1290, PerfectCube.cubeRoot(Integer.MAX_VALUE));
+        assertEquals(-1290, PerfectCube.cubeRoot(Integer.MIN_VALUE));
+    }
+
+    @Test
+    void testLongCubeRootAroundEveryCube() {
+        for (long r = 0; r <= 2_097_151; r += r < 5_000 ? 1 : 997) {
+            long cube = r * r * r;
+            assertEquals(r, PerfectCube.cubeRoot(cube));
+            assertEquals(-r, PerfectCube.cubeRoot(-cube));
+            assertTrue(PerfectCube.isPerfectCube(cube));
+            if (r > 1) {
+                assertEquals(r - 1, PerfectCube.cubeRoot(cube - 1));
+                assertEquals(r, PerfectCube.cubeRoot(cube + 1));
+                assertFalse(PerfectCube.isPerfectCube(cube - 1));
+                assertFalse(PerfectCube.isPerfectCube(-cube - 1));
+            }
+        }
+        // 2^63 = (2^21)^3, so Long.MIN_VALUE is the cube of -2^21
+        assertEquals(-(1L << 21), PerfectCube.cubeRoot(Long.MIN_VALUE));
+        assertTrue(PerfectCube.isPerfectCube(Long.MIN_VALUE));
+        assertEquals(2_097_151, PerfectCube.cubeRoot(Long.MAX_VALUE));
+        assertFalse(PerfectCube.isPerfectCube(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testLongCubeRootMatchesBigInteger() {
+        Random random = new Random(17);
+        for (int i = 0; i < 100_000; i++) {
+            long number = random.nextLong() >> random.nextInt(64);
+            long root = PerfectCube.cubeRoot(number);
+            BigInteger magnitude = BigInteger.valueOf(number).abs();
+            BigInteger r = BigInteger.valueOf(Math.abs(root));
+            assertTrue(r.pow(3).compareTo(magnitude) <= 0, "number " + number);
+            assertTrue(r.add(BigInteger.ONE).pow(3).compareTo(magnitude) > 0, "number " + number);
+            assertTrue(Long.signum(number) * Long.signum(root) >= 0, "number " + number);
+        }
+    }
+}
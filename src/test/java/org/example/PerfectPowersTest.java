@@ -0,0 +1,151 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+public class PerfectPowersTest {
+
+    // Every perfect k-th power in the int range, by direct enumeration
+    private static Set<Long> powersOf(int k) {
+        Set<Long> powers = new HashSet<>();
+        for (long r = 0; ; r++) {
+            long power = 1;
+            for (int i = 0; i < k && power <= 1L << 31; i++) {
+                power *= r;
+            }
+            if (power > 1L << 31) {
+                return powers;
+            }
+            powers.add(power);
+            if ((k & 1) == 1) {
+                powers.add(-power);
+            }
+        }
+    }
+
+    // Values around every power plus random values, so both outcomes are well covered
+    private static int[] mixedValues(int k, long seed) {
+        Random random = new Random(seed);
+        int[] values = new int[3 * PerfectPowers.PARALLEL_CHUNK + 101];
+        Long[] powers = powersOf(k).toArray(new Long[0]);
+        for (int i = 0; i < values.length; i++) {
+            if (i % 3 == 0) {
+                values[i] = random.nextInt();
+            } else {
+                long power = powers[random.nextInt(powers.length)] + random.nextInt(3) - 1;
+                values[i] = (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, power));
+            }
+        }
+        return values;
+    }
+
+    @Test
+    void testArrayClassificationMatchesEnumeration() {
+        for (int k = 2; k <= 7; k++) {
+            Set<Long> powers = powersOf(k);
+            int[] values = mixedValues(k, k);
+            BitSet serial = PerfectPowers.classify(values, k);
+            BitSet parallel = PerfectPowers.classify(values, k, true);
+            assertEquals(serial, parallel, "k = " + k);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(powers.contains((long) values[i]), serial.get(i), values[i] + ", k = " + k);
+            }
+        }
+    }
+
+    @Test
+    void testCubesAgreeWithPerfectCube() {
+        int[] values = mixedValues(3, 99);
+        BitSet cubes = PerfectPowers.classify(values, 3, true);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(PerfectCube.isPerfectCube(values[i]), cubes.get(i), "value " + values[i]);
+        }
+    }
+
+    @Test
+    void testSingleValues() {
+        assertTrue(PerfectPowers.isPerfectPower(0, 2));
+        assertTrue(PerfectPowers.isPerfectPower(1, 9));
+        assertTrue(PerfectPowers.isPerfectPower(-1, 3));
+        assertFalse(PerfectPowers.isPerfectPower(-1, 2));
+        assertTrue(PerfectPowers.isPerfectPower(46_340 * 46_340, 2));
+        assertFalse(PerfectPowers.isPerfectPower(Integer.MAX_VALUE, 2));
+        assertTrue(PerfectPowers.isPerfectPower(1 << 30, 2));
+        assertTrue(PerfectPowers.isPerfectPower(1 << 30, 5));
+        assertTrue(PerfectPowers.isPerfectPower(Integer.MIN_VALUE, 31));
+        assertFalse(PerfectPowers.isPerfectPower(Integer.MIN_VALUE, 3));
+        assertTrue(PerfectPowers.isPerfectPower(-1_000, 3));
+        assertFalse(PerfectPowers.isPerfectPower(2, 40));
+        assertTrue(PerfectPowers.isPerfectPower(-8, 3));
+        assertFalse(PerfectPowers.isPerfectPower(-9, 3));
+    }
+
+    @Test
+    void testRangeWithLargeExponentsEndsQuickly() {
+        // Only 0, 1 and, for odd k, -1 are k-th powers; the enumeration must not loop k times
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            int[] exponents = IntStream.concat(IntStream.of(32, 1_000_000),
+                    IntStream.rangeClosed(Integer.MAX_VALUE - 15, Integer.MAX_VALUE)).toArray();
+            for (int k : exponents) {
+                BitSet bits = PerfectPowers.classify(-10, 10, k);
+                BitSet expected = new BitSet();
+                expected.set(10);
+                expected.set(11);
+                if ((k & 1) == 1) {
+                    expected.set(9);
+                }
+                assertEquals(expected, bits, "k = " + k);
+            }
+        });
+    }
+
+    @Test
+    void testLargeExponents() {
+        // Past the cached filters only 0, 1 and, for odd k, -1 are k-th powers
+        int[] values = {0, 1, -1, 2, -2, 1 << 30, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int k : new int[] {31, 32, 33, 34, 35, 64, 1_001, Integer.MAX_VALUE - 1, Integer.MAX_VALUE}) {
+            BitSet bits = PerfectPowers.classify(values, k);
+            for (int i = 0; i < values.length; i++) {
+                long v = values[i];
+                boolean expected = v == 0 || v == 1 || (v == -1 && (k & 1) == 1)
+                        || (v == Integer.MIN_VALUE && k == 31);
+                assertEquals(expected, PerfectPowers.isPerfectPower(values[i], k), v + ", k = " + k);
+                assertEquals(expected, bits.get(i), v + ", k = " + k);
+            }
+        }
+    }
+
+    @Test
+    void testRangeClassification() {
+        for (int k = 2; k <= 5; k++) {
+            Set<Long> powers = powersOf(k);
+            int[][] ranges = {{-5_000, 5_000}, {0, 0}, {1_000_000, 1_100_000},
+                    {Integer.MAX_VALUE - 100_000, Integer.MAX_VALUE}, {Integer.MIN_VALUE, Integer.MIN_VALUE + 100_000}};
+            for (int[] range : ranges) {
+                BitSet bits = PerfectPowers.classify(range[0], range[1], k);
+                for (long v = range[0]; v < range[1]; v++) {
+                    assertEquals(powers.contains(v), bits.get((int) (v - range[0])), v + ", k = " + k);
+                }
+                assertTrue(bits.length() <= range[1] - range[0]);
+            }
+        }
+        // The full non-negative range: 46341 squares from 0 to 46340^2
+        assertEquals(46_341, PerfectPowers.classify(0, Integer.MAX_VALUE, 2).cardinality());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> PerfectPowers.isPerfectPower(4, 1));
+        assertThrows(IllegalArgumentException.class, () -> PerfectPowers.classify(new int[] {4}, 0));
+        assertThrows(IllegalArgumentException.class, () -> PerfectPowers.classify(0, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> PerfectPowers.classify(10, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> PerfectPowers.classify(-1, Integer.MAX_VALUE, 2));
+    }
+}
@@ -0,0 +1,133 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+public class RollbackDsuTest {
+    private RollbackDsu dsu;
+    private static final int TEST_SIZE = 5;
+
+    @BeforeEach
+    void setUp() {
+        dsu = new RollbackDsu(TEST_SIZE);
+    }
+
+    @Test
+    void testInitialization() {
+        assertEquals(TEST_SIZE, dsu.getSetCount(), "Initial set count should equal number of elements");
+        assertEquals(0, dsu.snapshot(), "A fresh structure should have an empty history");
+        for (int i = 0; i < TEST_SIZE; i++) {
+            assertEquals(i, dsu.find(i), "Each element should be its own root initially");
+            assertEquals(1, dsu.getSetSize(i), "Initial set size should be 1");
+        }
+        assertThrows(IllegalArgumentException.class, () -> dsu.find(-1));
+        assertThrows(IllegalArgumentException.class, () -> dsu.find(TEST_SIZE));
+    }
+
+    @Test
+    void testUnion() {
+        dsu.union(0, 1);
+        dsu.union(2, 1);
+        assertTrue(dsu.connected(0, 2), "Elements should be connected transitively");
+        assertEquals(3, dsu.getSetSize(2), "Set size should be 3 after uniting three elements");
+        assertEquals(dsu.find(0), dsu.find(2), "Smaller set should be linked below the larger one");
+        assertEquals(TEST_SIZE - 2, dsu.getSetCount(), "Set count should decrease after each union");
+
+        int token = dsu.snapshot();
+        dsu.union(0, 2);
+        assertEquals(token, dsu.snapshot(), "Uniting connected elements should not add history");
+        assertEquals(TEST_SIZE - 2, dsu.getSetCount(), "Set count should not change for connected elements");
+    }
+
+    @Test
+    void testRollback() {
+        dsu.union(0, 1);
+        int token = dsu.snapshot();
+
+        dsu.union(1, 2);
+        dsu.union(3, 4);
+        dsu.union(4, 0);
+        assertEquals(1, dsu.getSetCount(), "Everything should be merged before the rollback");
+
+        dsu.rollback(token);
+        assertEquals(TEST_SIZE - 1, dsu.getSetCount(), "Rollback should restore the set count");
+        assertEquals(token, dsu.snapshot(), "Rollback should trim the history to the token");
+        assertTrue(dsu.connected(0, 1), "Unions before the snapshot should be kept");
+        assertEquals(2, dsu.getSetSize(1), "Set sizes should be restored");
+        for (int i = 2; i < TEST_SIZE; i++) {
+            assertEquals(i, dsu.find(i), "Elements merged after the snapshot should be alone again");
+            assertEquals(1, dsu.getSetSize(i), "Elements merged after the snapshot should be alone again");
+        }
+
+        dsu.rollback(token);
+        assertEquals(TEST_SIZE - 1, dsu.getSetCount(), "Rolling back to the current state should do nothing");
+        dsu.rollback(0);
+        assertEquals(TEST_SIZE, dsu.getSetCount(), "Rolling back to the start should undo everything");
+        assertFalse(dsu.connected(0, 1), "Rolling back to the start should undo everything");
+    }
+
+    @Test
+    void testInvalidTokens() {
+        dsu.union(0, 1);
+        assertThrows(IllegalArgumentException.class, () -> dsu.rollback(-1));
+        assertThrows(IllegalArgumentException.class, () -> dsu.rollback(2));
+        assertEquals(TEST_SIZE - 1, dsu.getSetCount(), "Invalid rollbacks should change nothing");
+    }
+
+    @Test
+    void testNestedWhatIfQueriesMatchRebuild() {
+        int n = 300;
+        Random random = new Random(17);
+        RollbackDsu rollback = new RollbackDsu(n);
+        int[][] base = randomPairs(random, n, n / 2);
+        for (int[] pair : base) {
+            rollback.union(pair[0], pair[1]);
+        }
+
+        for (int query = 0; query < 20; query++) {
+            int token = rollback.snapshot();
+            int[][] extra = randomPairs(random, n, 1 + random.nextInt(n / 3));
+            for (int[] pair : extra) {
+                rollback.union(pair[0], pair[1]);
+            }
+
+            // Rebuilding from scratch must agree with the incremental state
+            Dsu rebuilt = new Dsu(n);
+            for (int[] pair : base) {
+                rebuilt.union(pair[0], pair[1]);
+            }
+            for (int[] pair : extra) {
+                rebuilt.union(pair[0], pair[1]);
+            }
+            assertSameSets(rebuilt, rollback, n);
+
+            rollback.rollback(token);
+        }
+
+        Dsu baseOnly = new Dsu(n);
+        for (int[] pair : base) {
+            baseOnly.union(pair[0], pair[1]);
+        }
+        assertSameSets(baseOnly, rollback, n);
+    }
+
+    private static int[][] randomPairs(Random random, int n, int count) {
+        int[][] pairs = new int[count][];
+        for (int p = 0; p < count; p++) {
+            pairs[p] = new int[] {random.nextInt(n), random.nextInt(n)};
+        }
+        return pairs;
+    }
+
+    private static void assertSameSets(Dsu expected, RollbackDsu actual, int n) {
+        assertEquals(expected.getSetCount(), actual.getSetCount(), "Set counts should match");
+        for (int i = 0; i < n; i++) {
+            assertEquals(expected.getSetSize(i), actual.getSetSize(i), "Set sizes should match for element " + i);
+            assertEquals(expected.connected(i, (i * 31 + 7) % n), actual.connected(i, (i * 31 + 7) % n),
+                    "Connectivity should match for element " + i);
+        }
+    }
+}